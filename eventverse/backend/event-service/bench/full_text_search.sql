@@ -0,0 +1,84 @@
+-- Full-text search benchmark: Postgres tsvector/GIN path vs. the LIKE fallback.
+--
+-- Run against a scratch database (it creates and drops its own table):
+--   psql -h localhost -U postgres -d eventverse -f bench/full_text_search.sql
+--
+-- The table mirrors the columns of `events` that both paths touch. The search_vector
+-- expression and index are identical to PostgresFullTextSchema (config 'english').
+
+\timing on
+
+DROP TABLE IF EXISTS events_fts_bench;
+
+CREATE TABLE events_fts_bench (
+    id               bigint PRIMARY KEY,
+    title            varchar(140) NOT NULL,
+    description      text,
+    city             varchar(64)  NOT NULL,
+    venue            varchar(255),
+    category         varchar(64),
+    is_public        boolean      NOT NULL,
+    popularity_score bigint       NOT NULL,
+    event_time       timestamptz  NOT NULL
+);
+
+-- 1M events over 12 cities with a small vocabulary, so common terms match many rows
+INSERT INTO events_fts_bench
+SELECT g,
+       (ARRAY['Jazz','Rock','Indie','Comedy','Startup','Photography','Yoga','Food','Tech','Poetry'])[1 + g % 10]
+           || ' ' || (ARRAY['Night','Meetup','Festival','Workshop','Open Mic','Summit','Walk','Session'])[1 + g % 8]
+           || ' #' || g,
+       'An evening of ' || (ARRAY['live music','stand-up','talks','hands-on learning','tasting','networking'])[1 + g % 6]
+           || ' hosted at venue ' || (g % 5000) || '. Bring friends; seats are limited.',
+       (ARRAY['Bangalore','Hyderabad','Mumbai','Pune','Delhi','Gurgaon','Chennai','Kolkata','Jaipur','Kochi','Goa','Indore'])[1 + g % 12],
+       'Hall ' || (g % 5000),
+       (ARRAY['MUSIC','COMEDY','TECH','FOOD','ART','SPORTS'])[1 + g % 6],
+       g % 20 <> 0,
+       (g * 7919) % 100000,
+       now() + (g % 365) * interval '1 day'
+FROM generate_series(1, 1000000) AS g;
+
+ALTER TABLE events_fts_bench ADD COLUMN search_vector tsvector
+GENERATED ALWAYS AS (
+    setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(category, '')), 'B') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(venue, '')), 'C') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'D')
+) STORED;
+
+CREATE INDEX idx_events_fts_bench_search_vector ON events_fts_bench USING GIN (search_vector);
+VACUUM ANALYZE events_fts_bench;
+
+-- 1. LIKE fallback (what searchFullText runs without an engine): sequential scan
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM events_fts_bench e
+WHERE (lower(e.title) LIKE '%photography%' OR lower(e.description) LIKE '%photography%'
+       OR lower(e.venue) LIKE '%photography%' OR lower(e.category) LIKE '%photography%'
+       OR lower(e.city) LIKE '%photography%')
+  AND e.is_public = true AND lower(e.city) = 'pune'
+ORDER BY e.popularity_score DESC, e.event_time
+LIMIT 20;
+
+-- 2. Postgres full-text path (EventRepository.searchFullText): bitmap scan on the GIN index
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.* FROM events_fts_bench e, websearch_to_tsquery('english'::regconfig, 'photography') q
+WHERE e.search_vector @@ q
+  AND e.is_public = true
+  AND lower(e.city) = 'pune'
+ORDER BY ts_rank_cd(e.search_vector, q) DESC, e.popularity_score DESC, e.id
+LIMIT 20;
+
+-- 3. Selective multi-term query, no city filter
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.* FROM events_fts_bench e, websearch_to_tsquery('english'::regconfig, 'jazz workshop') q
+WHERE e.search_vector @@ q AND e.is_public = true
+ORDER BY ts_rank_cd(e.search_vector, q) DESC, e.popularity_score DESC, e.id
+LIMIT 20;
+
+-- 4. Count queries issued for Page totals
+EXPLAIN (ANALYZE)
+SELECT count(*) FROM events_fts_bench e
+WHERE e.search_vector @@ websearch_to_tsquery('english'::regconfig, 'photography')
+  AND e.is_public = true AND lower(e.city) = 'pune';
+
+DROP TABLE events_fts_bench;
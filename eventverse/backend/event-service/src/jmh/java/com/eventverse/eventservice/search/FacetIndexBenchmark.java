@@ -0,0 +1,68 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Facet count latency of {@link FacetIndex} with and without filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacetIndexBenchmark {
+
+    private static final String[] CITIES = {"Bangalore", "Hyderabad", "Mumbai", "Pune", "Delhi", "Gurgaon",
+            "Chennai", "Kolkata", "Jaipur", "Kochi"};
+    private static final String[] CATEGORIES = {"MUSIC", "TECH", "COMEDY", "FOOD", "SPORTS", "ART", "WORKSHOP",
+            "THEATRE", "FITNESS", "NETWORKING", "FAMILY", "NIGHTLIFE"};
+
+    @Param({"200000"})
+    public int events;
+
+    private FacetIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new FacetIndex(new SimpleMeterRegistry(), "UTC", 50);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Event> batch = new ArrayList<>();
+        for (long id = 1; id <= events; id++) {
+            Event e = new Event();
+            e.setId(id);
+            e.setCity(CITIES[(int) (id % CITIES.length)]);
+            e.setCategory(CATEGORIES[(int) ((id / 3) % CATEGORIES.length)]);
+            e.setTime(now.plusHours((id * 37) % (24 * 120) - 24 * 20));
+            e.setPublicEvent(id % 10 != 0);
+            batch.add(e);
+            if (batch.size() == 1000) {
+                index.bulk(batch, List.of());
+                batch = new ArrayList<>();
+            }
+        }
+        index.bulk(batch, List.of());
+    }
+
+    @Benchmark
+    public Object unfiltered() {
+        return index.facets(null, null, null, null);
+    }
+
+    @Benchmark
+    public Object cityCategoryAndDate() {
+        return index.facets(null, "Pune", "MUSIC", FacetIndex.DateBucket.THIS_MONTH);
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency distribution of {@link SuggestionIndex} (see the p0.99 row of the output).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SuggestionIndexBenchmark {
+
+    private static final String[] CITIES = {"Bangalore", "Hyderabad", "Mumbai", "Pune", "Delhi", "Gurgaon"};
+    private static final String[] WORDS = {"Jazz", "Rock", "Indie", "Comedy", "Startup", "Photography", "Yoga",
+            "Food", "Tech", "Poetry", "Night", "Meetup", "Festival", "Workshop", "Summit", "Walk", "Session"};
+    private static final String[] PREFIXES = {"j", "ja", "jazz n", "ro", "photo", "co", "yoga w", "t", "fest", "s"};
+
+    @Param({"200000"})
+    public int events;
+
+    private SuggestionIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new SuggestionIndex(new SimpleMeterRegistry(), 20);
+        List<Event> batch = new ArrayList<>();
+        for (long id = 1; id <= events; id++) {
+            Event e = new Event();
+            e.setId(id);
+            e.setCity(CITIES[(int) (id % CITIES.length)]);
+            e.setTitle(WORDS[(int) (id % WORDS.length)] + " " + WORDS[(int) ((id / 7) % WORDS.length)] + " " + id);
+            e.setVenue("Hall " + (id % 3000));
+            e.setCategory(WORDS[(int) ((id / 3) % WORDS.length)].toUpperCase());
+            e.setPopularityScore((id * 7919) % 100_000);
+            batch.add(e);
+            if (batch.size() == 1000) {
+                index.bulk(batch, List.of());
+                batch = new ArrayList<>();
+            }
+        }
+        index.bulk(batch, List.of());
+    }
+
+    @Benchmark
+    public Object suggestInCity() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.suggest(PREFIXES[random.nextInt(PREFIXES.length)], CITIES[random.nextInt(CITIES.length)], 10);
+    }
+
+    @Benchmark
+    public Object suggestAllCities() {
+        return index.suggest(PREFIXES[ThreadLocalRandom.current().nextInt(PREFIXES.length)], null, 10);
+    }
+}
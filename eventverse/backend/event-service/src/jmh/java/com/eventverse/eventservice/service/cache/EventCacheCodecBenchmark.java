@@ -0,0 +1,134 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.CachedEventPage;
+import com.eventverse.eventservice.dto.EventResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link EventCacheCodec} with the Jackson serializer the caches used before,
+ * for a single event details entry and a 20 event popularEvents page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventCacheCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private EventCacheCodec binary;
+
+    private CacheEnvelope details;
+    private CacheEnvelope page;
+    private byte[] detailsJson;
+    private byte[] detailsBinary;
+    private byte[] pageJson;
+    private byte[] pageBinary;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.eventverse.eventservice.dto")
+                .allowIfSubType("java.math")
+                .allowIfSubType("java.util")
+                .allowIfSubType("java.time")
+                .build(), ObjectMapper.DefaultTyping.NON_FINAL);
+        json = new GenericJackson2JsonRedisSerializer(mapper);
+        binary = new EventCacheCodec(json, true);
+
+        details = new CacheEnvelope(event(1L), System.currentTimeMillis(), 300_000, 15);
+        List<EventResponse> content = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            content.add(event(i));
+        }
+        CachedEventPage cachedPage = new CachedEventPage();
+        cachedPage.setContent(content);
+        cachedPage.setSize(20);
+        cachedPage.setTotalElements(500);
+        page = new CacheEnvelope(cachedPage, System.currentTimeMillis(), 120_000, 40);
+
+        detailsJson = json.serialize(details);
+        detailsBinary = binary.serialize(details);
+        pageJson = json.serialize(page);
+        pageBinary = binary.serialize(page);
+        System.out.printf("%nentry bytes: details json=%d binary=%d, page json=%d binary=%d%n",
+                detailsJson.length, detailsBinary.length, pageJson.length, pageBinary.length);
+    }
+
+    @Benchmark
+    public byte[] detailsSerializeJson() {
+        return json.serialize(details);
+    }
+
+    @Benchmark
+    public byte[] detailsSerializeBinary() {
+        return binary.serialize(details);
+    }
+
+    @Benchmark
+    public Object detailsDeserializeJson() {
+        return json.deserialize(detailsJson);
+    }
+
+    @Benchmark
+    public Object detailsDeserializeBinary() {
+        return binary.deserialize(detailsBinary);
+    }
+
+    @Benchmark
+    public byte[] pageSerializeJson() {
+        return json.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] pageSerializeBinary() {
+        return binary.serialize(page);
+    }
+
+    @Benchmark
+    public Object pageDeserializeJson() {
+        return json.deserialize(pageJson);
+    }
+
+    @Benchmark
+    public Object pageDeserializeBinary() {
+        return binary.deserialize(pageBinary);
+    }
+
+    private static EventResponse event(Long id) {
+        EventResponse e = new EventResponse();
+        e.setId(id);
+        e.setTitle("Indie Rock Night #" + id);
+        e.setDescription("An evening of live sets from local bands, followed by an open jam session.");
+        e.setCity("Bengaluru");
+        e.setTime(OffsetDateTime.of(2026, 6, 12, 20, 0, 0, 0, ZoneOffset.ofHoursMinutes(5, 30)));
+        e.setCapacity(800);
+        e.setTotalSeats(800);
+        e.setOrganizerId(17L);
+        e.setVenue("The Humming Tree");
+        e.setCategory("MUSIC");
+        e.setPublicEvent(true);
+        e.setImageUrl("https://cdn.eventverse.example/events/" + id + "/cover.jpg");
+        e.setPopularityScore(4200L + id);
+        e.setPrice(new BigDecimal("799.00"));
+        return e;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventverse.eventservice.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Conditional GETs for event listings. Pages are still built per request, but the filter hashes
+ * the body into an ETag and answers a matching {@code If-None-Match} with a bodiless 304, which
+ * saves the transfer for clients polling an unchanged page. Single events have version-based
+ * ETags of their own in {@code EventController}.
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listingEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/events", "/events/scroll");
+        return registration;
+    }
+}
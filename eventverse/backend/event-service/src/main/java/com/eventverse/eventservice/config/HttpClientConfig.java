@@ -1,14 +1,120 @@
 package com.eventverse.eventservice.config;
 
+import com.eventverse.eventservice.service.http.DownstreamGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Inter-service HTTP clients.
+ * <p>
+ * Every downstream gets its own pooled keep-alive connection manager with its own connect,
+ * read and pool-acquire timeouts, so one slow service cannot hold the connections or threads
+ * another needs. Templates are built from Boot's {@link RestTemplateBuilder}, which records
+ * {@code http.client.requests} per uri template; those timers publish histograms here.
+ * Calls should go through the target's {@link DownstreamGuard} for bulkheading and circuit breaking.
+ */
 @Configuration
 public class HttpClientConfig {
+
+    /** Default client, for calls without a dedicated target. */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder, MeterRegistry meterRegistry) {
+        return pooled(builder, meterRegistry, "default", null, 1000, 2000, 50);
+    }
+
+    @Bean
+    public RestTemplate ticketServiceRestTemplate(
+            RestTemplateBuilder builder,
+            MeterRegistry meterRegistry,
+            @Value("${ticket-service.base-url}") String baseUrl,
+            @Value("${ticket-service.http.connect-timeout-ms:300}") int connectTimeoutMs,
+            @Value("${ticket-service.http.read-timeout-ms:800}") int readTimeoutMs,
+            @Value("${ticket-service.http.max-connections:50}") int maxConnections) {
+        return pooled(builder, meterRegistry, "ticket-service", baseUrl, connectTimeoutMs, readTimeoutMs, maxConnections);
+    }
+
+    @Bean
+    public DownstreamGuard ticketServiceGuard(
+            MeterRegistry meterRegistry,
+            @Value("${ticket-service.http.max-concurrent:40}") int maxConcurrent,
+            @Value("${ticket-service.http.breaker.window:20}") int window,
+            @Value("${ticket-service.http.breaker.failure-rate-percent:50}") int failureRatePercent,
+            @Value("${ticket-service.http.breaker.open-ms:5000}") long openMs) {
+        return new DownstreamGuard("ticket-service", maxConcurrent, window, failureRatePercent,
+                Duration.ofMillis(openMs), meterRegistry);
+    }
+
+    /** Per-route latency histograms for the client timers, so percentiles aggregate across replicas. */
+    @Bean
+    public MeterFilter httpClientHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("http.client.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
     }
-}
 
+    private static RestTemplate pooled(RestTemplateBuilder builder, MeterRegistry meterRegistry, String target,
+                                       String baseUrl, int connectTimeoutMs, int readTimeoutMs, int maxConnections) {
+        PoolingHttpClientConnectionManager connections = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connections)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // waiting for a pooled connection counts against the same budget as connecting
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .evictExpiredConnections()
+                .build();
+
+        Gauge.builder("http.client.pool.leased", connections, c -> c.getTotalStats().getLeased())
+                .tag("target", target).register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connections, c -> c.getTotalStats().getPending())
+                .tag("target", target).register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connections, c -> c.getTotalStats().getAvailable())
+                .tag("target", target).register(meterRegistry);
+
+        RestTemplateBuilder configured = builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient));
+        if (baseUrl != null) {
+            configured = configured.rootUri(baseUrl);
+        }
+        return configured.build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.eventverse.eventservice.config;
+
+import com.eventverse.eventservice.replica.ReadYourWritesFilter;
+import com.eventverse.eventservice.replica.ReplicaMonitor;
+import com.eventverse.eventservice.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read replicas for event-service, enabled by listing their JDBC urls in
+ * {@code event.datasource.replica-urls}. Read-only transactions go to a healthy replica,
+ * everything else to the primary configured by {@code spring.datasource.*}; replicas use the
+ * same credentials unless {@code event.datasource.replica-username/-password} are set.
+ * Every pool publishes {@code hikaricp.*} metrics under its own pool name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.datasource.replica-urls")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaMonitor replicaMonitor(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${event.datasource.replica-urls}") String[] replicaUrls,
+            @Value("${event.datasource.replica-username:}") String username,
+            @Value("${event.datasource.replica-password:}") String password,
+            @Value("${event.datasource.replica-max-pool-size:20}") int maxPoolSize,
+            @Value("${event.datasource.max-lag-ms:2000}") long maxLagMillis,
+            @Value("${event.datasource.check-interval-ms:1000}") long checkIntervalMillis) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls[i].trim())
+                    .username(username.isBlank() ? properties.determineUsername() : username)
+                    .password(password.isBlank() ? properties.determinePassword() : password)
+                    .build();
+            replica.setPoolName(name);
+            replica.setMaximumPoolSize(maxPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, replica);
+        }
+        ReplicaMonitor monitor = new ReplicaMonitor(replicas, maxLagMillis, meterRegistry);
+        monitor.start(checkIntervalMillis);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaMonitor replicaMonitor,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicaMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${event.datasource.read-your-writes-ms:5000}") long windowMillis,
+            StringRedisTemplate stringRedisTemplate) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMillis, stringRedisTemplate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Replica state under {@code /actuator/health}. Stays UP when replicas are down or lagging,
+     * since reads then fail over to the primary; the details say which replicas are in rotation.
+     */
+    @Bean
+    public HealthIndicator replicasHealthIndicator(ReplicaMonitor replicaMonitor) {
+        return () -> Health.up()
+                .withDetail("inRotation", replicaMonitor.replicas().stream().filter(ReplicaMonitor.Replica::healthy).count())
+                .withDetails(replicaMonitor.details())
+                .build();
+    }
+}
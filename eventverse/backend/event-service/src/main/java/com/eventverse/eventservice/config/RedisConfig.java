@@ -1,9 +1,15 @@
 package com.eventverse.eventservice.config;
 
+import com.eventverse.eventservice.search.SearchChangeListener;
+import com.eventverse.eventservice.search.SearchIndexingPipeline;
+import com.eventverse.eventservice.service.cache.CacheInvalidationListener;
+import com.eventverse.eventservice.service.cache.EventCacheCodec;
+import com.eventverse.eventservice.service.cache.EventDetailsCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +17,8 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -21,13 +29,15 @@ import java.time.Duration;
 public class RedisConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     @Value("${event.cache.codec:json}") String codec) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         
         // Configure type information to preserve class types during serialization
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
                 .allowIfSubType("com.eventverse.eventservice.dto")
+                .allowIfSubType("java.math")
                 .allowIfSubType("java.util")
                 .allowIfSubType("java.time")
                 .build();
@@ -37,9 +47,13 @@ public class RedisConfig {
                 ObjectMapper.DefaultTyping.NON_FINAL
         );
 
-        GenericJackson2JsonRedisSerializer serializer =
+        GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(objectMapper);
 
+        // Every replica reads both formats. Until all of them run this version the default keeps
+        // writing JSON; "binary" writes event DTOs in the compact format.
+        EventCacheCodec serializer = new EventCacheCodec(jsonSerializer, !"json".equalsIgnoreCase(codec));
+
         RedisCacheConfiguration config = RedisCacheConfiguration
                 .defaultCacheConfig()
                 .serializeValuesWith(
@@ -64,6 +78,7 @@ public class RedisConfig {
         mapper.registerModule(new JavaTimeModule());
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
                 .allowIfSubType("com.eventverse.eventservice")
+                .allowIfSubType("java.math")
                 .allowIfSubType("java.util")
                 .allowIfSubType("java.time")
                 .build();
@@ -80,4 +95,19 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Pub/sub listener container used to fan out near-cache invalidations and local search
+     * index changes across replicas.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CacheInvalidationListener invalidationListener,
+                                                                       SearchChangeListener searchChangeListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationListener, new ChannelTopic(EventDetailsCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(searchChangeListener, new ChannelTopic(SearchIndexingPipeline.CHANGES_CHANNEL));
+        return container;
+    }
 }
@@ -2,13 +2,22 @@ package com.eventverse.eventservice.controller;
 
 import com.eventverse.eventservice.dto.EventCreateRequest;
 import com.eventverse.eventservice.dto.EventFilterRequest;
+import com.eventverse.eventservice.dto.EventImportResult;
 import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.search.SearchIndexingPipeline;
+import com.eventverse.eventservice.service.EventImportService;
 import com.eventverse.eventservice.service.EventService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
 /**
  * Super-admin endpoints for managing events without organizer checks.
  */
@@ -17,9 +26,15 @@ import org.springframework.web.bind.annotation.*;
 public class AdminEventController {
 
     private final EventService eventService;
+    private final SearchIndexingPipeline searchIndexingPipeline;
+    private final EventImportService eventImportService;
 
-    public AdminEventController(EventService eventService) {
+    public AdminEventController(EventService eventService,
+                                SearchIndexingPipeline searchIndexingPipeline,
+                                EventImportService eventImportService) {
         this.eventService = eventService;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.eventImportService = eventImportService;
     }
 
     @PostMapping
@@ -28,6 +43,17 @@ public class AdminEventController {
         return eventService.adminCreateEvent(request);
     }
 
+    /**
+     * Bulk create from an NDJSON ({@code application/x-ndjson}) or CSV ({@code text/csv}, header
+     * row of {@link EventCreateRequest} property names) body, read as it streams in.
+     * Every row needs an {@code organizerId}; invalid rows are reported, not fatal.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public EventImportResult importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                          InputStream body) throws IOException {
+        return eventImportService.importEvents(body, EventImportService.Format.of(MediaType.parseMediaType(contentType)));
+    }
+
     @PutMapping("/{id}")
     public EventResponse update(@PathVariable Long id, @Valid @RequestBody EventCreateRequest request) {
         return eventService.adminUpdateEvent(id, request);
@@ -43,6 +69,14 @@ public class AdminEventController {
         return eventService.searchEvents(filter);
     }
 
+    /**
+     * Rebuilds the search index from the database, streaming events in id order.
+     */
+    @PostMapping("/reindex")
+    public Map<String, Long> reindex() {
+        return Map.of("indexed", searchIndexingPipeline.reindexAll());
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id) {
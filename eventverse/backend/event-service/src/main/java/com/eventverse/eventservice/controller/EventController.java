@@ -1,22 +1,49 @@
 package com.eventverse.eventservice.controller;
 import com.eventverse.eventservice.dto.EventCreateRequest;
+import com.eventverse.eventservice.dto.EventFacets;
 import com.eventverse.eventservice.dto.EventFilterRequest;
 import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.dto.EventSlice;
+import com.eventverse.eventservice.dto.EventSuggestion;
+import com.eventverse.eventservice.exception.InvalidLocationException;
+import com.eventverse.eventservice.feed.service.RecommendationWorker;
+import com.eventverse.eventservice.feed.service.ViewBuffer;
+import com.eventverse.eventservice.search.SuggestionIndex;
 import com.eventverse.eventservice.service.EventService;
+import com.eventverse.eventservice.service.cache.RenderedEventCache;
+import com.eventverse.eventservice.service.cache.RenderedEventCache.RenderedEvent;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/events")
 public class EventController {
     private final EventService eventService;
+    private final SuggestionIndex suggestionIndex;
+    private final RenderedEventCache renderedEventCache;
+    private final ViewBuffer viewBuffer;
+    private final RecommendationWorker recommendationWorker;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService,
+                           SuggestionIndex suggestionIndex,
+                           RenderedEventCache renderedEventCache,
+                           ViewBuffer viewBuffer,
+                           RecommendationWorker recommendationWorker) {
         this.eventService = eventService;
+        this.suggestionIndex = suggestionIndex;
+        this.renderedEventCache = renderedEventCache;
+        this.viewBuffer = viewBuffer;
+        this.recommendationWorker = recommendationWorker;
     }
 
     @PostMapping
@@ -31,9 +58,37 @@ public class EventController {
     }
 
 
+    /**
+     * Served from pre-rendered bytes. The weak ETag changes with the event version and the seat
+     * counts; a matching {@code If-None-Match} gets a bodiless 304. Views of public events,
+     * revalidations included, count towards the city's trending feed and, for a signed-in
+     * user, towards their recommendations.
+     */
     @GetMapping("/{id}")
-    public EventResponse getEvent(@PathVariable Long id) {
-        return eventService.getEventById(id);
+    public ResponseEntity<byte[]> getEvent(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = "X-User-Id", required = false) String userId
+    ) {
+        RenderedEvent rendered = renderedEventCache.get(id, () -> eventService.getEventById(id));
+        if (rendered.publicEvent()) {
+            viewBuffer.record(id, rendered.city());
+            recommendationWorker.recordView(userId, id);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(rendered.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (rendered.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (rendered.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return ResponseEntity.ok().headers(headers).body(rendered.gzip());
+        }
+        return ResponseEntity.ok().headers(headers).body(rendered.json());
     }
 
     @GetMapping("/search")
@@ -47,6 +102,65 @@ public class EventController {
     }
 
 
+    /**
+     * Facet counts to show next to search results. {@code date} is one of past, today,
+     * tomorrow, this_week, this_month or later.
+     */
+    @GetMapping("/facets")
+    public EventFacets facets(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String date
+    ) {
+        return eventService.searchFacets(query, city, category, date);
+    }
+
+
+    /**
+     * Typeahead over titles, venues and categories, most popular first; served from memory.
+     */
+    @GetMapping("/suggest")
+    public List<EventSuggestion> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        return suggestionIndex.suggest(prefix, city, Math.min(limit, 20));
+    }
+
+
+    /**
+     * Upcoming public events within {@code radiusKm} of a point, nearest first, then soonest.
+     * The time range defaults to the next {@code days} days.
+     */
+    @GetMapping("/nearby")
+    public List<EventResponse> nearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) String fromTime,
+            @RequestParam(required = false) String toTime,
+            @RequestParam(defaultValue = "30") Integer days,
+            @RequestParam(defaultValue = "20") Integer limit
+    ) {
+        if (days < 0) {
+            throw new InvalidLocationException("days must not be negative");
+        }
+        OffsetDateTime from = fromTime != null ? parseTime("fromTime", fromTime) : OffsetDateTime.now();
+        OffsetDateTime to = toTime != null ? parseTime("toTime", toTime) : from.plusDays(days);
+        return eventService.nearbyEvents(lat, lon, radiusKm, from, to, Math.min(limit, 100));
+    }
+
+    private static OffsetDateTime parseTime(String name, String value) {
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidLocationException(name + " must be an ISO-8601 date-time with offset");
+        }
+    }
+
+
     @PutMapping("/{id}")
     public EventResponse updateEvent(
             @PathVariable Long id,
@@ -92,4 +206,34 @@ public class EventController {
 
         return eventService.searchEvents(filter);
     }
+
+    /**
+     * Cursor-based listing for infinite scroll: no offset scan and no total count.
+     * Pass the returned {@code nextCursor} back as {@code cursor} with the same filters.
+     */
+    @GetMapping("/scroll")
+    public EventSlice scrollEvents(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long organizerId,
+            @RequestParam(required = false) String fromTime,
+            @RequestParam(required = false) String toTime,
+            @RequestParam(defaultValue = "TIME_ASC") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        EventFilterRequest filter = new EventFilterRequest();
+        filter.setCity(city);
+        filter.setOrganizerId(organizerId);
+        filter.setSort(sort);
+        filter.setSize(size);
+
+        if (fromTime != null) {
+            filter.setFromTime(OffsetDateTime.parse(fromTime));
+        }
+        if (toTime != null) {
+            filter.setToTime(OffsetDateTime.parse(toTime));
+        }
+
+        return eventService.scrollEvents(filter, cursor);
+    }
 }
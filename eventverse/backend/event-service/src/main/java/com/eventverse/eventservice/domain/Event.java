@@ -41,6 +41,12 @@ public class Event {
     @Column(name = "image_url", length = 512)
     private String imageUrl;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "is_public", nullable = false)
     private boolean publicEvent = true;
 
@@ -84,6 +90,12 @@ public class Event {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public boolean isPublicEvent() { return publicEvent; }
     public void setPublicEvent(boolean publicEvent) { this.publicEvent = publicEvent; }
 
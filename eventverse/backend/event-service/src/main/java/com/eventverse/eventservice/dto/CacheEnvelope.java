@@ -0,0 +1,52 @@
+package com.eventverse.eventservice.dto;
+
+/**
+ * Wraps a cached value with the metadata needed for stale-while-revalidate.
+ * The Redis entry TTL is the hard TTL; {@code softExpiresAt} marks when the value should be
+ * refreshed in the background, and {@code computeMillis} (how long the value took to load)
+ * drives the probabilistic early refresh.
+ */
+public class CacheEnvelope {
+    private Object value;
+    private long createdAt;
+    private long softExpiresAt;
+    private long computeMillis;
+
+    public CacheEnvelope() {
+    }
+
+    public CacheEnvelope(Object value, long createdAt, long softTtlMillis, long computeMillis) {
+        this.value = value;
+        this.createdAt = createdAt;
+        this.softExpiresAt = createdAt + softTtlMillis;
+        this.computeMillis = computeMillis;
+    }
+
+    /**
+     * XFetch: refresh once {@code now - computeMillis * beta * ln(random) >= softExpiresAt}.
+     * Expensive values start refreshing earlier, and each reader rolls independently so the
+     * refresh spreads out instead of every replica missing at the same instant.
+     *
+     * @param random uniform sample in (0, 1]
+     */
+    public boolean shouldRefresh(long now, double beta, double random) {
+        if (now >= softExpiresAt) {
+            return true;
+        }
+        double gap = -computeMillis * beta * Math.log(random);
+        return now + gap >= softExpiresAt;
+    }
+
+    // getters and setters
+    public Object getValue() { return value; }
+    public void setValue(Object value) { this.value = value; }
+
+    public long getCreatedAt() { return createdAt; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+
+    public long getSoftExpiresAt() { return softExpiresAt; }
+    public void setSoftExpiresAt(long softExpiresAt) { this.softExpiresAt = softExpiresAt; }
+
+    public long getComputeMillis() { return computeMillis; }
+    public void setComputeMillis(long computeMillis) { this.computeMillis = computeMillis; }
+}
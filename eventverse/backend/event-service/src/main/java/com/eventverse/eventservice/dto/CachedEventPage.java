@@ -0,0 +1,48 @@
+package com.eventverse.eventservice.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache-friendly snapshot of a {@link Page} of events.
+ * {@code PageImpl} itself cannot be rebuilt by Jackson, so the cache stores this instead.
+ */
+public class CachedEventPage {
+    private List<EventResponse> content = new ArrayList<>();
+    private int page;
+    private int size;
+    private long totalElements;
+
+    public CachedEventPage() {
+    }
+
+    public static CachedEventPage of(Page<EventResponse> source) {
+        CachedEventPage cached = new CachedEventPage();
+        cached.setContent(new ArrayList<>(source.getContent()));
+        cached.setPage(source.getNumber());
+        cached.setSize(source.getSize());
+        cached.setTotalElements(source.getTotalElements());
+        return cached;
+    }
+
+    public Page<EventResponse> toPage() {
+        return new PageImpl<>(new ArrayList<>(content), PageRequest.of(page, Math.max(1, size)), totalElements);
+    }
+
+    // getters and setters
+    public List<EventResponse> getContent() { return content; }
+    public void setContent(List<EventResponse> content) { this.content = content; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public long getTotalElements() { return totalElements; }
+    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+}
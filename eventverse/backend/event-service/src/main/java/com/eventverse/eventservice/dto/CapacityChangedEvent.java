@@ -0,0 +1,43 @@
+package com.eventverse.eventservice.dto;
+
+import java.time.Instant;
+
+/**
+ * Published on {@code event-capacity} after an event's capacity is committed.
+ * {@code eventVersion} is the event row version of that commit; ticket-service ignores
+ * messages not newer than the version it last applied.
+ */
+public class CapacityChangedEvent {
+    private String messageId;
+    private Long eventId;
+    private Integer capacity;
+    private Long eventVersion;
+    private Instant occurredAt;
+
+    public CapacityChangedEvent() {
+    }
+
+    public CapacityChangedEvent(String messageId, Long eventId, Integer capacity, Long eventVersion, Instant occurredAt) {
+        this.messageId = messageId;
+        this.eventId = eventId;
+        this.capacity = capacity;
+        this.eventVersion = eventVersion;
+        this.occurredAt = occurredAt;
+    }
+
+    // getters and setters
+    public String getMessageId() { return messageId; }
+    public void setMessageId(String messageId) { this.messageId = messageId; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+
+    public Long getEventVersion() { return eventVersion; }
+    public void setEventVersion(Long eventVersion) { this.eventVersion = eventVersion; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
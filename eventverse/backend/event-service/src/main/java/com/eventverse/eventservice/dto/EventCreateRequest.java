@@ -32,6 +32,14 @@ public class EventCreateRequest {
     private Boolean publicEvent = true;
     private String imageUrl;
 
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+
     // getters and setters
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -65,4 +73,10 @@ public class EventCreateRequest {
 
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
 }
@@ -0,0 +1,32 @@
+package com.eventverse.eventservice.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Facet counts for a search: matching events per category, city and date bucket, largest first.
+ * {@code ready} is false while the facet index is still being built at startup.
+ */
+public class EventFacets {
+    private long total;
+    private boolean ready;
+    private Map<String, Long> categories = new LinkedHashMap<>();
+    private Map<String, Long> cities = new LinkedHashMap<>();
+    private Map<String, Long> dates = new LinkedHashMap<>();
+
+    // getters and setters
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public boolean isReady() { return ready; }
+    public void setReady(boolean ready) { this.ready = ready; }
+
+    public Map<String, Long> getCategories() { return categories; }
+    public void setCategories(Map<String, Long> categories) { this.categories = categories; }
+
+    public Map<String, Long> getCities() { return cities; }
+    public void setCities(Map<String, Long> cities) { this.cities = cities; }
+
+    public Map<String, Long> getDates() { return dates; }
+    public void setDates(Map<String, Long> dates) { this.dates = dates; }
+}
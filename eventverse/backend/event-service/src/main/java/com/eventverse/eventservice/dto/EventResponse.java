@@ -17,9 +17,14 @@ public class EventResponse {
     private String category;
     private boolean publicEvent;
     private String imageUrl;
+    private Double latitude;
+    private Double longitude;
+    // only set on nearby results
+    private Double distanceKm;
 
     private Long popularityScore;
     private BigDecimal price;
+    private Long version;
 
 
     // getters and setters
@@ -62,9 +67,21 @@ public class EventResponse {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public Double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(Double distanceKm) { this.distanceKm = distanceKm; }
+
     public Long getPopularityScore() { return popularityScore; }
     public void setPopularityScore(Long popularityScore) { this.popularityScore = popularityScore;}
 
     public BigDecimal getPrice() { return price; }
     public void setPrice(BigDecimal price) { this.price = price; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     }
\ No newline at end of file
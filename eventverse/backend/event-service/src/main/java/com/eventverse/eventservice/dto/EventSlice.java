@@ -0,0 +1,38 @@
+package com.eventverse.eventservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One window of a keyset listing. There is no total count; {@code nextCursor} is null on the
+ * last window and is otherwise passed back as {@code cursor} to continue.
+ */
+public class EventSlice {
+    private List<EventResponse> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public EventSlice() {
+    }
+
+    public EventSlice(List<EventResponse> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // getters and setters
+    public List<EventResponse> getContent() { return content; }
+    public void setContent(List<EventResponse> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
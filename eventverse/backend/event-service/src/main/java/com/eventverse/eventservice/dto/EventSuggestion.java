@@ -0,0 +1,40 @@
+package com.eventverse.eventservice.dto;
+
+/**
+ * A typeahead suggestion: the matched text, what it is (title, venue or category) and the
+ * event it came from.
+ */
+public class EventSuggestion {
+    private String text;
+    private String type;
+    private Long eventId;
+    private String city;
+    private Long popularityScore;
+
+    public EventSuggestion() {
+    }
+
+    public EventSuggestion(String text, String type, Long eventId, String city, Long popularityScore) {
+        this.text = text;
+        this.type = type;
+        this.eventId = eventId;
+        this.city = city;
+        this.popularityScore = popularityScore;
+    }
+
+    // getters and setters
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getCity() { return city; }
+    public void setCity(String city) { this.city = city; }
+
+    public Long getPopularityScore() { return popularityScore; }
+    public void setPopularityScore(Long popularityScore) { this.popularityScore = popularityScore; }
+}
@@ -0,0 +1,38 @@
+package com.eventverse.eventservice.dto;
+
+import java.time.Instant;
+
+/**
+ * Published by ticket-service on {@code ticket-events} when a ticket is confirmed or cancelled.
+ * {@code eventIdRef} is the booked event; {@code eventId} identifies the message itself.
+ */
+public class TicketEvent {
+
+    public enum Type { TICKET_CONFIRMED, TICKET_CANCELLED }
+
+    private String eventId;
+    private Type type;
+    private String ticketId;
+    private String eventIdRef;
+    private String userId;
+    private Instant occurredAt;
+
+    // getters and setters
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public String getTicketId() { return ticketId; }
+    public void setTicketId(String ticketId) { this.ticketId = ticketId; }
+
+    public String getEventIdRef() { return eventIdRef; }
+    public void setEventIdRef(String eventIdRef) { this.eventIdRef = eventIdRef; }
+
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,10 @@
+package com.eventverse.eventservice.exception;
+
+/**
+ * Thrown when a listing continuation token cannot be decoded or does not match the request.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.eventverse.eventservice.exception;
+
+/**
+ * Thrown when a search filter or facet value is not one the service recognises.
+ */
+public class InvalidFilterException extends IllegalArgumentException {
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.eventverse.eventservice.exception;
+
+/**
+ * Thrown when nearby search coordinates, radius, time window or limit are out of range.
+ */
+public class InvalidLocationException extends IllegalArgumentException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
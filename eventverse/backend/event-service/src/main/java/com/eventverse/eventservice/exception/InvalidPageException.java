@@ -0,0 +1,10 @@
+package com.eventverse.eventservice.exception;
+
+/**
+ * Thrown when a requested page number or page size is out of range.
+ */
+public class InvalidPageException extends IllegalArgumentException {
+    public InvalidPageException(String message) {
+        super(message);
+    }
+}
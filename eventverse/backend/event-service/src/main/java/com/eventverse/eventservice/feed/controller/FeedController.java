@@ -1,5 +1,6 @@
 package com.eventverse.eventservice.feed.controller;
 
+import com.eventverse.eventservice.exception.InvalidPageException;
 import com.eventverse.eventservice.feed.dto.FeedResponse;
 import com.eventverse.eventservice.feed.model.FeedType;
 import com.eventverse.eventservice.feed.service.FeedService;
@@ -22,8 +23,15 @@ public class FeedController {
             @RequestParam(required = false) String city,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean hydrate,
             @RequestHeader("X-User-Id") String userId
     ) {
-        return feedService.getFeed(type, userId, city, page, size);
+        if (page < 0) {
+            throw new InvalidPageException("page must not be negative");
+        }
+        if (size < 1) {
+            throw new InvalidPageException("size must be at least 1");
+        }
+        return feedService.getFeed(type, userId, city, page, size, hydrate);
     }
 }
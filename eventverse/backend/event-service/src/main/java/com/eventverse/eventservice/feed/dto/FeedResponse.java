@@ -1,5 +1,6 @@
 package com.eventverse.eventservice.feed.dto;
 
+import com.eventverse.eventservice.dto.EventResponse;
 import com.eventverse.eventservice.feed.model.FeedType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,14 +15,17 @@ public class FeedResponse {
     private FeedType type;
     private boolean cached;
     private List<EventScore> events;
+    // the page's events, only when asked for with hydrate=true; events that no longer exist are
+    // left out, so clients match details to events by id rather than by position
+    private List<EventResponse> details;
 
 
     public static FeedResponse cached(FeedType type, List<EventScore> events) {
-        return new FeedResponse(type, true, events);
+        return new FeedResponse(type, true, events, null);
     }
 
 
     public static FeedResponse db(FeedType type, List<EventScore> events) {
-        return new FeedResponse(type, false, events);
+        return new FeedResponse(type, false, events, null);
     }
 }
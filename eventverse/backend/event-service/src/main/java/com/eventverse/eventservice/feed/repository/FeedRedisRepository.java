@@ -1,14 +1,22 @@
 package com.eventverse.eventservice.feed.repository;
 import com.eventverse.eventservice.feed.dto.EventScore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Repository;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 
 @Repository
@@ -16,14 +24,28 @@ import java.util.Set;
 public class FeedRedisRepository {
 
 
+    static final Duration TTL = Duration.ofMinutes(10);
+    private static final String BUILD_SUFFIX = ":build:";
+
     private final RedisTemplate<String, Object> redisTemplate;
 
 
     public List<EventScore> fetch(String key, int page, int size) {
-        int start = page * size;
-        int end = start + size - 1;
+        long start = (long) page * size;
+        long end = start + size - 1;
+        return range(key, start, end);
+    }
 
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
 
+    /** The whole feed at {@code key}, highest score first. */
+    public List<EventScore> fetchAll(String key) {
+        return range(key, 0, -1);
+    }
+
+    private List<EventScore> range(String key, long start, long end) {
         Set<ZSetOperations.TypedTuple<Object>> data =
                 redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
 
@@ -42,10 +64,49 @@ public class FeedRedisRepository {
     }
 
 
+    /**
+     * Replaces the feed at {@code key} without readers ever seeing it half-built: the members
+     * are written to a private temporary key in one {@code ZADD}, given the feed's expiry, and
+     * {@code RENAME}d over the live key (which carries the expiry along), all in one pipelined
+     * round trip. A build cut short leaves only the temporary key, which expires on its own.
+     * Concurrent rebuilds of the same key are coalesced by the caller's single-flight lease.
+     */
     public void warm(String key, List<EventScore> scores) {
-        for (EventScore es : scores) {
-            redisTemplate.opsForZSet().add(key, es.getEventId(), es.getScore());
+        warm(Map.of(key, scores), TTL);
+    }
+
+    /**
+     * Replaces several feeds the same way as {@link #warm(String, List)}, all in one pipelined
+     * round trip, each expiring after {@code ttl}. Empty feeds are left alone.
+     */
+    public void warm(Map<String, List<EventScore>> feeds, Duration ttl) {
+        Map<String, Set<ZSetOperations.TypedTuple<Object>>> builds = new LinkedHashMap<>();
+        feeds.forEach((key, scores) -> {
+            if (scores.isEmpty()) {
+                return;
+            }
+            Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+            for (EventScore es : scores) {
+                tuples.add(new DefaultTypedTuple<>(es.getEventId(), es.getScore()));
+            }
+            builds.put(key, tuples);
+        });
+        if (builds.isEmpty()) {
+            return;
         }
-        redisTemplate.expire(key, java.time.Duration.ofMinutes(10));
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                builds.forEach((key, tuples) -> {
+                    String building = key + BUILD_SUFFIX + UUID.randomUUID();
+                    redis.opsForZSet().add(building, tuples);
+                    redis.expire(building, ttl);
+                    redis.rename(building, key);
+                });
+                return null;
+            }
+        });
     }
 }
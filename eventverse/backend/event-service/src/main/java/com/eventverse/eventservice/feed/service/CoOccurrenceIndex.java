@@ -0,0 +1,91 @@
+package com.eventverse.eventservice.feed.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sparse event-to-event co-occurrence counts ("people who booked X also booked Y").
+ * <p>
+ * Each event keeps only its {@code neighbours} strongest co-occurring events: a new neighbour
+ * of a full row replaces the weakest one and inherits its count (Space-Saving), so a kept count
+ * overestimates by at most the count it replaced. At most {@code maxEvents} rows are held, the
+ * least recently touched dropped first, so memory stays bounded however many events and users
+ * there are.
+ * <p>
+ * Not thread-safe; {@link RecommendationWorker} only touches it from its own thread.
+ */
+final class CoOccurrenceIndex {
+
+    private final int neighbours;
+    private final Map<Long, Row> rows;
+
+    CoOccurrenceIndex(int neighbours, int maxEvents) {
+        if (neighbours <= 0 || maxEvents <= 0) {
+            throw new IllegalArgumentException("neighbours and max-events must be positive");
+        }
+        this.neighbours = neighbours;
+        this.rows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Row> eldest) {
+                return size() > maxEvents;
+            }
+        };
+    }
+
+    /** Counts {@code a} and {@code b} as seen together by one user, in both directions. */
+    void add(long a, long b, double weight) {
+        if (a == b || weight <= 0) {
+            return;
+        }
+        rows.computeIfAbsent(a, id -> new Row()).add(b, weight, neighbours);
+        rows.computeIfAbsent(b, id -> new Row()).add(a, weight, neighbours);
+    }
+
+    /**
+     * Neighbours of {@code event}, each with the share of the event's co-occurrences it accounts
+     * for, so popular events do not dominate every user's list.
+     */
+    Map<Long, Double> neighbours(long event) {
+        Row row = rows.get(event);
+        if (row == null) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Double> strengths = new HashMap<>(row.counts.size() * 2);
+        row.counts.forEach((other, count) -> strengths.put(other, count / row.total));
+        return strengths;
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    private static final class Row {
+        final Map<Long, Double> counts = new HashMap<>();
+        double total;
+
+        void add(long other, double weight, int capacity) {
+            total += weight;
+            Double count = counts.get(other);
+            if (count != null) {
+                counts.put(other, count + weight);
+                return;
+            }
+            if (counts.size() < capacity) {
+                counts.put(other, weight);
+                return;
+            }
+            long weakest = 0;
+            double weakestCount = Double.MAX_VALUE;
+            for (Map.Entry<Long, Double> entry : counts.entrySet()) {
+                if (entry.getValue() < weakestCount) {
+                    weakest = entry.getKey();
+                    weakestCount = entry.getValue();
+                }
+            }
+            counts.remove(weakest);
+            counts.put(other, weakestCount + weight);
+        }
+    }
+}
@@ -1,22 +1,245 @@
 package com.eventverse.eventservice.feed.service;
 
-import lombok.RequiredArgsConstructor;
+import com.eventverse.eventservice.feed.model.FeedType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+/**
+ * Time-decayed trending scores.
+ * <p>
+ * Views, batched by {@link ViewBuffer}, are counted into per-city buckets of
+ * {@code bucket-seconds} ({@code feed:views:city:<city>:<bucket>}), which expire after
+ * {@code retention-buckets}.
+ * Every {@code rebuild-ms} one replica (holding a short Redis lease) folds the buckets closed
+ * since its last run into a running decayed aggregate per city with a single weighted
+ * {@code ZUNIONSTORE}: the aggregate is multiplied by {@code 2^(-elapsed / half-life)} and each
+ * closed bucket is added with the decay for its age. The aggregate plus the still-open bucket
+ * is then published as {@code feed:trending:city:<city>}, which {@link FeedService} serves.
+ * Aggregates are trimmed to {@code max-size} members and scores below {@code min-score}, and a
+ * city with nothing left is dropped, so memory follows recent traffic only.
+ * <p>
+ * Half-lives are configured per feed type.
+ */
 @Service
-@RequiredArgsConstructor
 public class FeedRankingWorker {
 
+    static final String VIEWS_PREFIX = "feed:views:city:";
+    static final String CITIES_KEY = "feed:views:cities";
+    static final String DECAYED_PREFIX = "feed:trending:decayed:city:";
+    static final String TRENDING_PREFIX = "feed:trending:city:";
+    static final String FOLDED_KEY = "feed:trending:folded";
+    private static final String LEASE_KEY = "feed:trending:rebuild-lease";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<FeedType, Duration> halfLives = new EnumMap<>(FeedType.class);
+    private final long bucketMillis;
+    private final int retentionBuckets;
+    private final long rebuildMillis;
+    private final int maxSize;
+    private final double minScore;
+    private final LongSupplier clock;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService executor;
 
+    private final Counter views;
+    private final Timer rebuilds;
 
-    @Async
-    public void registerView(String eventId, String city) {
-        redisTemplate.opsForZSet()
-                .incrementScore("feed:trending:city:" + city, eventId, 1.0);
+    @Autowired
+    public FeedRankingWorker(RedisTemplate<String, Object> redisTemplate,
+                             StringRedisTemplate stringRedisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${event.feed.trending.half-life-minutes:360}") long trendingHalfLifeMinutes,
+                             @Value("${event.feed.recommended.half-life-minutes:4320}") long recommendedHalfLifeMinutes,
+                             @Value("${event.feed.trending.bucket-seconds:60}") long bucketSeconds,
+                             @Value("${event.feed.trending.retention-buckets:180}") int retentionBuckets,
+                             @Value("${event.feed.trending.rebuild-ms:60000}") long rebuildMillis,
+                             @Value("${event.feed.trending.max-size:1000}") int maxSize,
+                             @Value("${event.feed.trending.min-score:0.01}") double minScore) {
+        this(redisTemplate, stringRedisTemplate, meterRegistry, Duration.ofMinutes(trendingHalfLifeMinutes),
+                Duration.ofMinutes(recommendedHalfLifeMinutes), Duration.ofSeconds(bucketSeconds),
+                retentionBuckets, rebuildMillis, maxSize, minScore, System::currentTimeMillis);
+    }
+
+    FeedRankingWorker(RedisTemplate<String, Object> redisTemplate,
+                      StringRedisTemplate stringRedisTemplate,
+                      MeterRegistry meterRegistry,
+                      Duration trendingHalfLife,
+                      Duration recommendedHalfLife,
+                      Duration bucket,
+                      int retentionBuckets,
+                      long rebuildMillis,
+                      int maxSize,
+                      double minScore,
+                      LongSupplier clock) {
+        if (bucket.isZero() || bucket.isNegative() || retentionBuckets < 2) {
+            throw new IllegalArgumentException("bucket must be positive and retention-buckets at least 2");
+        }
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.halfLives.put(FeedType.TRENDING, trendingHalfLife);
+        this.halfLives.put(FeedType.RECOMMENDED, recommendedHalfLife);
+        this.bucketMillis = bucket.toMillis();
+        this.retentionBuckets = retentionBuckets;
+        this.rebuildMillis = rebuildMillis;
+        this.maxSize = maxSize;
+        this.minScore = minScore;
+        this.clock = clock;
+        this.views = Counter.builder("event.feed.trending.views").register(meterRegistry);
+        this.rebuilds = Timer.builder("event.feed.trending.rebuild").register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "feed-trending");
+            t.setDaemon(true);
+            return t;
+        });
+        if (rebuildMillis > 0) {
+            executor.scheduleWithFixedDelay(this::rebuildQuietly, rebuildMillis, rebuildMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Adds a batch of view counts from {@link ViewBuffer} to the current bucket in one pipelined
+     * round trip.
+     */
+    public void applyViews(Map<ViewBuffer.View, Long> counts) {
+        String bucketSuffix = ":" + currentBucket();
+        Duration retention = Duration.ofMillis(bucketMillis * retentionBuckets);
+        Set<String> cities = new HashSet<>();
+        counts.keySet().forEach(view -> cities.add(view.city()));
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                counts.forEach((view, count) -> redis.opsForZSet()
+                        .incrementScore(VIEWS_PREFIX + view.city() + bucketSuffix, String.valueOf(view.eventId()), count));
+                for (String city : cities) {
+                    redis.expire(VIEWS_PREFIX + city + bucketSuffix, retention);
+                }
+                redis.opsForSet().add(CITIES_KEY, cities.toArray());
+                return null;
+            }
+        });
+        views.increment(counts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /** Half-life of view-based scores for {@code type}; scores halve every this long. */
+    public Duration halfLife(FeedType type) {
+        Duration halfLife = halfLives.get(type);
+        if (halfLife == null) {
+            throw new IllegalArgumentException("No decay configured for feed type: " + type);
+        }
+        return halfLife;
+    }
+
+    /**
+     * Folds closed buckets into every city's aggregate and republishes the trending sets.
+     * Skipped when another replica rebuilt within the last {@code rebuild-ms}.
+     */
+    public void rebuild() {
+        Boolean leased = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY, owner, Duration.ofMillis(Math.max(1000, rebuildMillis - 1000)));
+        if (!Boolean.TRUE.equals(leased)) {
+            return;
+        }
+        long started = System.nanoTime();
+        Set<Object> cities = redisTemplate.opsForSet().members(CITIES_KEY);
+        if (cities != null) {
+            long current = currentBucket();
+            for (Object city : cities) {
+                rebuildCity(city.toString(), current);
+            }
+        }
+        rebuilds.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    void rebuildCity(String city, long current) {
+        ZSetOperations<String, Object> zset = redisTemplate.opsForZSet();
+        String decayed = DECAYED_PREFIX + city;
+        long lastClosed = current - 1;
+        Object folded = redisTemplate.opsForHash().get(FOLDED_KEY, city);
+        // a new city folds everything still retained; older buckets have expired either way
+        long from = current - retentionBuckets;
+        if (folded != null) {
+            from = Math.max(from, Long.parseLong(folded.toString()) + 1);
+        }
+
+        if (from <= lastClosed) {
+            double perBucket = decayPerBucket(FeedType.TRENDING);
+            List<String> buckets = new ArrayList<>();
+            double[] weights = new double[(int) (lastClosed - from) + 2];
+            // the aggregate was as of the end of bucket from - 1
+            weights[0] = Math.pow(perBucket, lastClosed - from + 1);
+            for (long b = from; b <= lastClosed; b++) {
+                buckets.add(bucketKey(city, b));
+                weights[buckets.size()] = Math.pow(perBucket, lastClosed - b);
+            }
+            zset.unionAndStore(decayed, buckets, decayed, Aggregate.SUM, Weights.of(weights));
+            zset.removeRangeByScore(decayed, Double.NEGATIVE_INFINITY, minScore);
+            zset.removeRange(decayed, 0, -(maxSize + 1L));
+            redisTemplate.expire(decayed, Duration.ofMillis(bucketMillis * retentionBuckets).multipliedBy(4));
+            redisTemplate.opsForHash().put(FOLDED_KEY, city, String.valueOf(lastClosed));
+        }
+
+        String trending = TRENDING_PREFIX + city;
+        Long size = zset.unionAndStore(decayed, List.of(bucketKey(city, current)), trending);
+        if (size == null || size == 0) {
+            // no recent views: stop tracking the city and let the feed fall back to the database
+            redisTemplate.opsForSet().remove(CITIES_KEY, city);
+            redisTemplate.opsForHash().delete(FOLDED_KEY, city);
+            return;
+        }
+        redisTemplate.expire(trending, Duration.ofMillis(Math.max(rebuildMillis, bucketMillis)).multipliedBy(10));
+    }
+
+    /** Factor a score is multiplied by per bucket of age: {@code 2^(-bucket / half-life)}. */
+    double decayPerBucket(FeedType type) {
+        return Math.pow(0.5, (double) bucketMillis / halfLife(type).toMillis());
+    }
+
+    long currentBucket() {
+        return Math.floorDiv(clock.getAsLong(), bucketMillis);
+    }
+
+    static String bucketKey(String city, long bucket) {
+        return VIEWS_PREFIX + city + ":" + bucket;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception ignored) {
+            // retried on the next tick; closed buckets stay until their retention runs out
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 }
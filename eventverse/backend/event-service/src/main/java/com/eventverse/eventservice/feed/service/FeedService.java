@@ -3,10 +3,13 @@ import com.eventverse.eventservice.feed.dto.EventScore;
 import com.eventverse.eventservice.feed.dto.FeedResponse;
 import com.eventverse.eventservice.feed.model.FeedType;
 import com.eventverse.eventservice.feed.repository.FeedRedisRepository;
+import com.eventverse.eventservice.service.EventService;
+import com.eventverse.eventservice.service.cache.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -15,6 +18,8 @@ import java.util.List;
 public class FeedService {
     private final FeedRedisRepository redisRepository;
     private final FeedSourceService feedSourceService;
+    private final SingleFlight singleFlight;
+    private final EventService eventService;
     public FeedResponse getFeed(
             FeedType type,
             String userId,
@@ -22,14 +27,78 @@ public class FeedService {
             int page,
             int size
     ) {
-        String key = buildKey(type, userId, city);
-        List<EventScore> cached = redisRepository.fetch(key, page, size);
+        return getFeed(type, userId, city, page, size, false);
+    }
+
+    /**
+     * @param hydrate also resolve the page's events, cached details first and seat
+     *                availability in one batch, so a client renders the page from one response
+     */
+    public FeedResponse getFeed(
+            FeedType type,
+            String userId,
+            String city,
+            int page,
+            int size,
+            boolean hydrate
+    ) {
+        FeedResponse response = fetch(type, userId, city, page, size);
+        if (hydrate) {
+            response.setDetails(eventService.getEventsByIds(eventIds(response.getEvents())));
+        }
+        return response;
+    }
+
+    private FeedResponse fetch(FeedType type, String userId, String city, int page, int size) {
+        String userKey = buildKey(type, userId, city);
+        List<EventScore> cached = redisRepository.fetch(userKey, page, size);
         if (!cached.isEmpty()) {
             return FeedResponse.cached(type, cached);
         }
-        List<EventScore> fresh = feedSourceService.fetchFromDb(type, userId, city);
-        redisRepository.warm(key, fresh);
-        return FeedResponse.db(type, fresh);
+        // no recommendations yet: the database fallback is cached under its own per-city key,
+        // since RecommendationWorker merges into whatever the user's key holds
+        String key = type == FeedType.RECOMMENDED ? fallbackKey(city) : userKey;
+        if (!key.equals(userKey)) {
+            if (redisRepository.exists(userKey)) {
+                // past the end of the user's recommendations
+                return FeedResponse.cached(type, List.of());
+            }
+            cached = redisRepository.fetch(key, page, size);
+            if (!cached.isEmpty()) {
+                return FeedResponse.cached(type, cached);
+            }
+        }
+        // one warm-up per feed key, even with many concurrent cold readers; the flight carries the
+        // whole feed, so readers of different pages sharing it each take their own page
+        List<EventScore> fresh = singleFlight.load("feed", key,
+                () -> {
+                    List<EventScore> warmed = redisRepository.fetchAll(key);
+                    return warmed.isEmpty() ? null : warmed;
+                },
+                () -> {
+                    List<EventScore> loaded = List.copyOf(feedSourceService.fetchFromDb(type, userId, city));
+                    redisRepository.warm(key, loaded);
+                    return loaded;
+                });
+        return FeedResponse.db(type, page(fresh, page, size));
+    }
+
+    /** Same page the cache would have served. */
+    private static List<EventScore> page(List<EventScore> scores, int page, int size) {
+        int from = (int) Math.min((long) page * size, scores.size());
+        return List.copyOf(scores.subList(from, (int) Math.min((long) from + size, scores.size())));
+    }
+
+    private static List<Long> eventIds(List<EventScore> scores) {
+        List<Long> ids = new ArrayList<>(scores.size());
+        for (EventScore score : scores) {
+            try {
+                ids.add(Long.valueOf(score.getEventId()));
+            } catch (NumberFormatException ignored) {
+                // not an event id; nothing to hydrate
+            }
+        }
+        return ids;
     }
 
     private String buildKey(FeedType type, String userId, String city) {
@@ -39,4 +108,8 @@ public class FeedService {
             case UPCOMING -> "feed:upcoming";
         };
     }
+
+    private static String fallbackKey(String city) {
+        return "feed:recommended:fallback:city:" + city;
+    }
 }
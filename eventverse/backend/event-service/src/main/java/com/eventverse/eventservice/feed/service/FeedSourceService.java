@@ -3,11 +3,11 @@ package com.eventverse.eventservice.feed.service;
 import com.eventverse.eventservice.domain.Event;
 import com.eventverse.eventservice.feed.dto.EventScore;
 import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.repository.EventCard;
 import com.eventverse.eventservice.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
@@ -24,7 +24,8 @@ public class FeedSourceService {
     /**
      * Fetch feed candidates from the database with simple scoring rules:
      * - TRENDING: highest popularityScore, city-scoped when provided
-     * - RECOMMENDED: bias to user city if available, otherwise global trending
+     * - RECOMMENDED: bias to user city if available, otherwise global trending; only served until
+     *   {@link RecommendationWorker} has candidates for the user
      * - UPCOMING: soonest upcoming events (time ascending), city-scoped when provided
      */
     public List<EventScore> fetchFromDb(FeedType type, String userId, String city) {
@@ -35,7 +36,7 @@ public class FeedSourceService {
             }
             case RECOMMENDED -> {
                 // Basic recommender: prioritize user city trending; fallback to global trending
-                List<Event> cityTrending = fetchTrending(city, limit);
+                List<EventCard> cityTrending = fetchTrending(city, limit);
                 if (cityTrending.isEmpty()) {
                     cityTrending = fetchTrending(null, limit);
                 }
@@ -48,29 +49,30 @@ public class FeedSourceService {
         }
     }
 
-    private List<Event> fetchTrending(String city, int limit) {
-        Pageable pageable = PageRequest.of(0, limit,
-                Sort.by(Sort.Order.desc("popularityScore"), Sort.Order.asc("time")));
-        if (city != null && !city.isBlank()) {
-            return eventRepository.findByCityAndPublicEventTrueOrderByPopularityScoreDescTimeAsc(city, pageable);
-        }
-        return eventRepository.findByPublicEventTrueOrderByPopularityScoreDescTimeAsc(pageable);
+    private List<EventCard> fetchTrending(String city, int limit) {
+        Sort sort = Sort.by(Sort.Order.desc("popularityScore"), Sort.Order.asc("time"));
+        return eventRepository.findCards(publicIn(city), sort, limit);
     }
 
-    private List<Event> fetchUpcoming(String city, int limit) {
+    private List<EventCard> fetchUpcoming(String city, int limit) {
         OffsetDateTime now = OffsetDateTime.now();
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.asc("time")));
+        Specification<Event> upcoming = (root, q, cb) -> cb.greaterThan(root.get("time"), now);
+        return eventRepository.findCards(publicIn(city).and(upcoming), Sort.by(Sort.Order.asc("time")), limit);
+    }
+
+    private static Specification<Event> publicIn(String city) {
+        Specification<Event> spec = (root, q, cb) -> cb.isTrue(root.get("publicEvent"));
         if (city != null && !city.isBlank()) {
-            return eventRepository.findByCityAndPublicEventTrueAndTimeAfterOrderByTimeAsc(city, now, pageable);
+            spec = spec.and((root, q, cb) -> cb.equal(root.get("city"), city));
         }
-        return eventRepository.findByPublicEventTrueAndTimeAfterOrderByTimeAsc(now, pageable);
+        return spec;
     }
 
-    private List<EventScore> toScores(List<Event> events, boolean addRecencyBoost) {
+    private List<EventScore> toScores(List<EventCard> events, boolean addRecencyBoost) {
         OffsetDateTime now = OffsetDateTime.now();
         return events.stream()
                 .map(ev -> new EventScore(
-                        String.valueOf(ev.getId()),
+                        String.valueOf(ev.id()),
                         computeScore(ev, now, addRecencyBoost)
                 ))
                 // extra safety: highest score first for the warmed cache
@@ -78,12 +80,12 @@ public class FeedSourceService {
                 .collect(Collectors.toList());
     }
 
-    private double computeScore(Event ev, OffsetDateTime now, boolean addRecencyBoost) {
-        double popularity = ev.getPopularityScore() != null ? ev.getPopularityScore() : 0d;
+    private double computeScore(EventCard ev, OffsetDateTime now, boolean addRecencyBoost) {
+        double popularity = ev.popularityScore() != null ? ev.popularityScore() : 0d;
         double recencyBoost = 0d;
-        if (addRecencyBoost && ev.getTime() != null) {
+        if (addRecencyBoost && ev.time() != null) {
             // earlier events (sooner) get a slight boost for recommendations
-            long hoursUntil = java.time.Duration.between(now, ev.getTime()).toHours();
+            long hoursUntil = java.time.Duration.between(now, ev.time()).toHours();
             recencyBoost = Math.max(0, 48 - Math.abs(hoursUntil)) * 0.5; // capped modest boost
         }
         return popularity + recencyBoost;
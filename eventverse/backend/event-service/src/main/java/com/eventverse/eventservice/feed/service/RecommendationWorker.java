@@ -0,0 +1,340 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.dto.EventScore;
+import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.feed.repository.FeedRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Item-to-item recommendations, precomputed per user into {@code feed:recommended:user:<id>}
+ * so {@link FeedService} serves them with its usual single sorted-set read.
+ * <p>
+ * Confirmed bookings (from {@code ticket-events}) and event views are queued, up to
+ * {@code queue-size}; further ones are dropped and counted in
+ * {@code event.feed.recommended.dropped}. Every {@code refresh-ms} the queue is drained: the
+ * affected users' recent histories and current candidate lists are read in one pipelined round
+ * trip, each new interaction
+ * is counted against the user's history in a {@link CoOccurrenceIndex}, and the histories and
+ * the users' fresh candidate lists are written back in two more pipelines.
+ * <p>
+ * A history is a sorted set {@code feed:history:user:<id>} of the user's {@code history-size}
+ * strongest events. Interest decays with the RECOMMENDED half-life of {@link FeedRankingWorker};
+ * scores are stored as {@code log2(weight) + t / half-life}, which orders members by their
+ * decayed weight without ever rewriting them. Only the increase over what is left of an
+ * earlier interaction with the same event is counted, so reloading a page does not inflate its
+ * co-occurrences. A candidate's score is the sum, over the user's history, of the history
+ * event's decayed weight times the candidate's share of that event's co-occurrences; events
+ * already in the history are left out.
+ * <p>
+ * Per-user state lives only in Redis and expires with {@code history-ttl-days} and
+ * {@code ttl-hours}, so the JVM holds the bounded index and queue regardless of how many users
+ * there are. Each replica learns from the bookings of its own Kafka partitions and the views it
+ * serves, a sample of the same traffic, so its index is partial (and empty after a restart). A
+ * refresh therefore merges its candidates into the user's stored list rather than replacing it:
+ * stored scores are decayed by the list's age (from its remaining TTL), each candidate keeps the
+ * higher of the two scores, and the top {@code max-candidates} are written back. Only this worker
+ * writes the user's key: users nobody has candidates for get the database fallback, which
+ * {@link FeedService} caches under its own per-city key.
+ */
+@Service
+public class RecommendationWorker {
+
+    static final String HISTORY_PREFIX = "feed:history:user:";
+    static final String RECOMMENDED_PREFIX = "feed:recommended:user:";
+    private static final int USER_READS = 3;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final FeedRedisRepository feedRedisRepository;
+    private final CoOccurrenceIndex index;
+    private final BlockingQueue<Interaction> queue;
+    private final double bookingWeight;
+    private final double viewWeight;
+    private final int historySize;
+    private final int maxCandidates;
+    private final Duration historyTtl;
+    private final Duration candidatesTtl;
+    private final double halfLifeMillis;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService executor;
+
+    private final Counter interactions;
+    private final Counter dropped;
+    private final Timer refreshes;
+
+    @Autowired
+    public RecommendationWorker(RedisTemplate<String, Object> redisTemplate,
+                                FeedRedisRepository feedRedisRepository,
+                                FeedRankingWorker feedRankingWorker,
+                                MeterRegistry meterRegistry,
+                                @Value("${event.feed.recommended.booking-weight:1.0}") double bookingWeight,
+                                @Value("${event.feed.recommended.view-weight:0.2}") double viewWeight,
+                                @Value("${event.feed.recommended.neighbours:50}") int neighbours,
+                                @Value("${event.feed.recommended.max-events:50000}") int maxEvents,
+                                @Value("${event.feed.recommended.history-size:50}") int historySize,
+                                @Value("${event.feed.recommended.max-candidates:100}") int maxCandidates,
+                                @Value("${event.feed.recommended.queue-size:100000}") int queueSize,
+                                @Value("${event.feed.recommended.history-ttl-days:30}") long historyTtlDays,
+                                @Value("${event.feed.recommended.ttl-hours:24}") long ttlHours,
+                                @Value("${event.feed.recommended.refresh-ms:5000}") long refreshMillis) {
+        this(redisTemplate, feedRedisRepository, meterRegistry, feedRankingWorker.halfLife(FeedType.RECOMMENDED),
+                bookingWeight, viewWeight, new CoOccurrenceIndex(neighbours, maxEvents), historySize, maxCandidates,
+                queueSize, Duration.ofDays(historyTtlDays), Duration.ofHours(ttlHours), refreshMillis,
+                System::currentTimeMillis);
+    }
+
+    RecommendationWorker(RedisTemplate<String, Object> redisTemplate,
+                         FeedRedisRepository feedRedisRepository,
+                         MeterRegistry meterRegistry,
+                         Duration halfLife,
+                         double bookingWeight,
+                         double viewWeight,
+                         CoOccurrenceIndex index,
+                         int historySize,
+                         int maxCandidates,
+                         int queueSize,
+                         Duration historyTtl,
+                         Duration candidatesTtl,
+                         long refreshMillis,
+                         LongSupplier clock) {
+        if (bookingWeight <= 0 || viewWeight <= 0 || historySize <= 0 || maxCandidates <= 0) {
+            throw new IllegalArgumentException("weights, history-size and max-candidates must be positive");
+        }
+        this.redisTemplate = redisTemplate;
+        this.feedRedisRepository = feedRedisRepository;
+        this.index = index;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.bookingWeight = bookingWeight;
+        this.viewWeight = viewWeight;
+        this.historySize = historySize;
+        this.maxCandidates = maxCandidates;
+        this.historyTtl = historyTtl;
+        this.candidatesTtl = candidatesTtl;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.clock = clock;
+        this.interactions = Counter.builder("event.feed.recommended.interactions").register(meterRegistry);
+        this.dropped = Counter.builder("event.feed.recommended.dropped").register(meterRegistry);
+        this.refreshes = Timer.builder("event.feed.recommended.refresh").register(meterRegistry);
+        Gauge.builder("event.feed.recommended.queued", queue, Collection::size).register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "feed-recommended");
+            t.setDaemon(true);
+            return t;
+        });
+        if (refreshMillis > 0) {
+            executor.scheduleWithFixedDelay(this::refreshQuietly, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void recordBooking(String userId, long eventId) {
+        record(userId, eventId, bookingWeight);
+    }
+
+    public void recordView(String userId, long eventId) {
+        record(userId, eventId, viewWeight);
+    }
+
+    private void record(String userId, long eventId, double weight) {
+        if (userId == null || userId.isBlank()) {
+            return;
+        }
+        if (queue.offer(new Interaction(userId, eventId, weight))) {
+            interactions.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /** Learns from everything queued and rewrites the affected users' recommendations. */
+    public synchronized void refresh() {
+        List<Interaction> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Map<String, List<Interaction>> byUser = new LinkedHashMap<>();
+        for (Interaction interaction : batch) {
+            byUser.computeIfAbsent(interaction.userId(), u -> new ArrayList<>()).add(interaction);
+        }
+        List<String> users = new ArrayList<>(byUser.keySet());
+        List<Object> stored = readUsers(users);
+
+        double now = clock.getAsLong() / halfLifeMillis;
+        Map<String, Map<Long, Double>> changes = new LinkedHashMap<>();
+        Map<String, List<EventScore>> feeds = new LinkedHashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            String user = users.get(i);
+            Map<Long, Double> history = parseScores(result(stored, i, 0));
+            Map<Long, Double> changed = new HashMap<>();
+            for (Interaction interaction : byUser.get(user)) {
+                learn(history, changed, interaction, now);
+            }
+            if (!changed.isEmpty()) {
+                changes.put(user, changed);
+            }
+            Map<Long, Double> previous = parseScores(result(stored, i, 1));
+            double previousDecay = result(stored, i, 2) instanceof Long remaining && remaining > 0
+                    ? Math.pow(2, -Math.max(0, candidatesTtl.toMillis() - remaining) / halfLifeMillis)
+                    : 0;
+            feeds.put(RECOMMENDED_PREFIX + user, candidates(history, now, previous, previousDecay));
+        }
+        writeHistories(changes);
+        feedRedisRepository.warm(feeds, candidatesTtl);
+        refreshes.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void learn(Map<Long, Double> history, Map<Long, Double> changed, Interaction interaction, double now) {
+        long event = interaction.eventId();
+        Double previous = history.get(event);
+        double increase = interaction.weight() - (previous == null ? 0 : weightAt(previous, now));
+        if (increase <= 0) {
+            return;
+        }
+        history.forEach((other, score) -> index.add(event, other, Math.min(increase, weightAt(score, now))));
+        double score = log2(interaction.weight()) + now;
+        history.put(event, score);
+        changed.put(event, score);
+    }
+
+    /**
+     * This replica's candidates merged with the {@code previous} list, whose scores are first
+     * multiplied by {@code previousDecay}; each event keeps its higher score.
+     */
+    private List<EventScore> candidates(Map<Long, Double> history, double now,
+                                        Map<Long, Double> previous, double previousDecay) {
+        Map<Long, Double> scores = new HashMap<>();
+        history.forEach((event, score) -> {
+            double weight = weightAt(score, now);
+            index.neighbours(event).forEach((other, strength) -> {
+                if (!history.containsKey(other)) {
+                    scores.merge(other, weight * strength, Double::sum);
+                }
+            });
+        });
+        if (previousDecay > 0) {
+            previous.forEach((event, score) -> {
+                if (!history.containsKey(event)) {
+                    scores.merge(event, score * previousDecay, Math::max);
+                }
+            });
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(maxCandidates)
+                .map(e -> new EventScore(String.valueOf(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    /** Per user, in order: the history, the stored candidates and their remaining TTL in ms. */
+    private List<Object> readUsers(List<String> users) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                for (String user : users) {
+                    redis.opsForZSet().reverseRangeWithScores(HISTORY_PREFIX + user, 0, historySize - 1);
+                    redis.opsForZSet().reverseRangeWithScores(RECOMMENDED_PREFIX + user, 0, maxCandidates - 1);
+                    redis.getExpire(RECOMMENDED_PREFIX + user, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static Object result(List<Object> stored, int user, int offset) {
+        int i = user * USER_READS + offset;
+        return i < stored.size() ? stored.get(i) : null;
+    }
+
+    private void writeHistories(Map<String, Map<Long, Double>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                changes.forEach((user, changed) -> {
+                    String key = HISTORY_PREFIX + user;
+                    changed.forEach((event, score) -> redis.opsForZSet().add(key, String.valueOf(event), score));
+                    // keeps the strongest events: scores order members by decayed weight
+                    redis.opsForZSet().removeRange(key, 0, -(historySize + 1L));
+                    redis.expire(key, historyTtl);
+                });
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Double> parseScores(Object stored) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (!(stored instanceof Collection<?> tuples)) {
+            return scores;
+        }
+        for (Object tuple : tuples) {
+            ZSetOperations.TypedTuple<Object> member = (ZSetOperations.TypedTuple<Object>) tuple;
+            if (member.getValue() == null || member.getScore() == null) {
+                continue;
+            }
+            try {
+                scores.put(Long.valueOf(member.getValue().toString()), member.getScore());
+            } catch (NumberFormatException ignored) {
+                // not an event id
+            }
+        }
+        return scores;
+    }
+
+    /** Weight left of a history score at {@code now}, both in half-lives. */
+    private static double weightAt(double score, double now) {
+        return Math.pow(2, score - now);
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception ignored) {
+            // the drained batch is lost; recommendations are refreshed by the users' next interactions
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Interaction(String userId, long eventId, double weight) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.eventverse.eventservice.feed.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Adds up event views in memory and hands them to {@link FeedRankingWorker} as one batch every
+ * {@code flush-ms}, so a hot event costs one pipelined {@code ZINCRBY} per flush instead of one
+ * Redis round trip per view.
+ * <p>
+ * Counts are kept per (city, event) in {@code stripes} independently locked maps, so concurrent
+ * request threads rarely contend. At most {@code max-keys} distinct pairs are held between
+ * flushes: views of pairs already pending are always counted, views that would add a new pair
+ * to a full stripe are dropped and counted in {@code event.feed.views.dropped}. A failed flush
+ * is dropped the same way rather than retried, since trending is approximate anyway. The last
+ * batch is flushed on shutdown.
+ */
+@Component
+public class ViewBuffer {
+
+    private final Consumer<Map<View, Long>> sink;
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+    private final ScheduledExecutorService executor;
+
+    private final Counter recorded;
+    private final Counter droppedFull;
+    private final Counter droppedFailed;
+
+    @Autowired
+    public ViewBuffer(FeedRankingWorker feedRankingWorker,
+                      MeterRegistry meterRegistry,
+                      @Value("${event.feed.views.stripes:16}") int stripes,
+                      @Value("${event.feed.views.max-keys:100000}") int maxKeys,
+                      @Value("${event.feed.views.flush-ms:1000}") long flushMillis) {
+        this(feedRankingWorker::applyViews, meterRegistry, stripes, maxKeys, flushMillis);
+    }
+
+    ViewBuffer(Consumer<Map<View, Long>> sink, MeterRegistry meterRegistry, int stripes, int maxKeys, long flushMillis) {
+        if (stripes <= 0 || maxKeys < stripes) {
+            throw new IllegalArgumentException("stripes must be positive and max-keys at least stripes");
+        }
+        this.sink = sink;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = maxKeys / stripes;
+        this.recorded = Counter.builder("event.feed.views").register(meterRegistry);
+        this.droppedFull = dropped(meterRegistry, "full");
+        this.droppedFailed = dropped(meterRegistry, "flush_failed");
+        Gauge.builder("event.feed.views.pending", this, ViewBuffer::pendingKeys).register(meterRegistry);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "feed-views");
+            t.setDaemon(true);
+            return t;
+        });
+        if (flushMillis > 0) {
+            executor.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Counts one view of {@code eventId}; views without a city have no trending feed to join. */
+    public void record(long eventId, String city) {
+        if (city == null || city.isBlank()) {
+            return;
+        }
+        View view = new View(city, eventId);
+        Stripe stripe = stripes[Math.floorMod(view.hashCode(), stripes.length)];
+        synchronized (stripe) {
+            long[] count = stripe.pending.get(view);
+            if (count == null) {
+                if (stripe.pending.size() >= maxKeysPerStripe) {
+                    droppedFull.increment();
+                    return;
+                }
+                count = new long[1];
+                stripe.pending.put(view, count);
+            }
+            count[0]++;
+        }
+        recorded.increment();
+    }
+
+    /** Hands everything pending to the sink in one batch. */
+    public void flush() {
+        Map<View, Long> batch = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<View, long[]> drained;
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                drained = stripe.pending;
+                stripe.pending = new HashMap<>();
+            }
+            drained.forEach((view, count) -> batch.put(view, count[0]));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.accept(batch);
+        } catch (RuntimeException e) {
+            droppedFailed.increment(batch.values().stream().mapToLong(Long::longValue).sum());
+            throw e;
+        }
+    }
+
+    int pendingKeys() {
+        int pending = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                pending += stripe.pending.size();
+            }
+        }
+        return pending;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception ignored) {
+            // counted as dropped; the next flush starts from a fresh batch
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("event.feed.views.dropped")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    public record View(String city, long eventId) {
+    }
+
+    private static final class Stripe {
+        Map<View, long[]> pending = new HashMap<>();
+    }
+}
@@ -2,6 +2,7 @@ package com.eventverse.eventservice.mapper;
 import com.eventverse.eventservice.domain.Event;
 import com.eventverse.eventservice.dto.EventCreateRequest;
 import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.repository.EventCard;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,6 +18,8 @@ public class EventMapper {
         e.setVenue(req.getVenue());
         e.setCategory(req.getCategory());
         e.setImageUrl(req.getImageUrl());
+        e.setLatitude(req.getLatitude());
+        e.setLongitude(req.getLongitude());
         e.setPublicEvent(req.getPublicEvent() != null ? req.getPublicEvent() : true);
         if (req.getPrice() != null) {
             e.setPrice(req.getPrice());
@@ -40,7 +43,31 @@ public class EventMapper {
         res.setPublicEvent(e.isPublicEvent());
         res.setPopularityScore(e.getPopularityScore());
         res.setPrice(e.getPrice());
+        res.setVersion(e.getVersion());
+        res.setLatitude(e.getLatitude());
+        res.setLongitude(e.getLongitude());
 
         return res;
     }
+
+    /** Listing variant; cards carry no description. */
+    public EventResponse toResponse(EventCard card) {
+        EventResponse res = new EventResponse();
+        res.setId(card.id());
+        res.setTitle(card.title());
+        res.setCity(card.city());
+        res.setTime(card.time());
+        res.setCapacity(card.capacity());
+        res.setTotalSeats(card.capacity());
+        res.setOrganizerId(card.organizerId());
+        res.setVenue(card.venue());
+        res.setCategory(card.category());
+        res.setImageUrl(card.imageUrl());
+        res.setLatitude(card.latitude());
+        res.setLongitude(card.longitude());
+        res.setPublicEvent(Boolean.TRUE.equals(card.publicEvent()));
+        res.setPopularityScore(card.popularityScore());
+        res.setPrice(card.price());
+        return res;
+    }
 }
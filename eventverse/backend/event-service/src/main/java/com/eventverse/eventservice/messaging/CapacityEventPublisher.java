@@ -0,0 +1,79 @@
+package com.eventverse.eventservice.messaging;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.CapacityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tells ticket-service about committed capacity changes through {@link #TOPIC}, keyed by
+ * event id so changes to one event stay ordered. Nothing is sent for rolled back writes and
+ * the writing transaction never waits on the broker.
+ */
+@Component
+public class CapacityEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(CapacityEventPublisher.class);
+
+    public static final String TOPIC = "event-capacity";
+
+    private final KafkaTemplate<String, CapacityChangedEvent> kafkaTemplate;
+    private final Counter failures;
+
+    public CapacityEventPublisher(KafkaTemplate<String, CapacityChangedEvent> kafkaTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.failures = Counter.builder("event.capacity.publish.failures").register(meterRegistry);
+    }
+
+    /**
+     * Publishes {@code event}'s capacity once the current transaction (if any) commits.
+     * The message carries the version written by that commit.
+     */
+    public void capacityChanged(Event event) {
+        if (event == null || event.getId() == null || event.getCapacity() == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // the flush at commit has bumped the entity's version by now
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(Event event) {
+        CapacityChangedEvent message = new CapacityChangedEvent(
+                UUID.randomUUID().toString(),
+                event.getId(),
+                event.getCapacity(),
+                event.getVersion(),
+                Instant.now());
+        try {
+            kafkaTemplate.send(TOPIC, String.valueOf(event.getId()), message)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            failures.increment();
+                            log.error("Failed to publish capacity change for event [{}] version [{}]: {}",
+                                    event.getId(), message.getEventVersion(), ex.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            failures.increment();
+            log.error("Failed to publish capacity change for event [{}]: {}", event.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventverse.eventservice.messaging;
+
+import com.eventverse.eventservice.dto.InventoryChangedEvent;
+import com.eventverse.eventservice.service.EventService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies ticket-service's view of an event's inventory once it has processed a capacity change.
+ */
+@Component
+public class InventoryEventListener {
+
+    private final EventService eventService;
+
+    public InventoryEventListener(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    @KafkaListener(topics = "inventory-events", groupId = "event-service")
+    public void onMessage(InventoryChangedEvent event) {
+        eventService.applyInventoryChange(event);
+    }
+}
@@ -0,0 +1,34 @@
+package com.eventverse.eventservice.messaging;
+
+import com.eventverse.eventservice.dto.TicketEvent;
+import com.eventverse.eventservice.feed.service.RecommendationWorker;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds confirmed bookings to the recommender. Cancellations are not unlearned: the user was
+ * still interested in the event.
+ */
+@Component
+public class TicketEventListener {
+
+    private final RecommendationWorker recommendationWorker;
+
+    public TicketEventListener(RecommendationWorker recommendationWorker) {
+        this.recommendationWorker = recommendationWorker;
+    }
+
+    @KafkaListener(topics = "ticket-events", groupId = "event-service",
+            containerFactory = "ticketEventListenerContainerFactory")
+    public void onMessage(TicketEvent event) {
+        if (event.getType() != TicketEvent.Type.TICKET_CONFIRMED
+                || event.getUserId() == null || event.getEventIdRef() == null) {
+            return;
+        }
+        try {
+            recommendationWorker.recordBooking(event.getUserId(), Long.parseLong(event.getEventIdRef()));
+        } catch (NumberFormatException ignored) {
+            // not an event of ours
+        }
+    }
+}
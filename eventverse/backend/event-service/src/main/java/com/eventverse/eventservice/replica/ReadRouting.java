@@ -0,0 +1,43 @@
+package com.eventverse.eventservice.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that keeps read-only transactions on the primary, e.g. for a user who
+ * just wrote or for loads that fill shared caches. Only takes effect before the transaction's
+ * first statement, when the routed connection is fetched.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+
+    public static void clear() {
+        PRIMARY.remove();
+    }
+
+    /** Runs {@code action} with reads pinned to the primary, restoring the previous setting. */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+}
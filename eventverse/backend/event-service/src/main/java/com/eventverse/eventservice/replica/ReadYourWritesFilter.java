@@ -0,0 +1,96 @@
+package com.eventverse.eventservice.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Pins a user's reads to the primary for {@code windowMillis} after they made a successful
+ * write, so they see their own changes despite replica lag. Users are identified by the
+ * gateway's {@code X-User-Id} header; anonymous reads are never pinned.
+ * <p>
+ * The pin is kept in this instance's memory and, so that the user's next read is pinned on
+ * whichever instance the load balancer picks, as a Redis key {@code ryw:user:<id>} expiring
+ * with the window. Reads not pinned locally check that key; when Redis is unreachable they go
+ * by the local pins only.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String USER_HEADER = "X-User-Id";
+    static final String KEY_PREFIX = "ryw:user:";
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LongSupplier clock;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(long windowMillis, StringRedisTemplate stringRedisTemplate) {
+        this(windowMillis, stringRedisTemplate, System::currentTimeMillis);
+    }
+
+    ReadYourWritesFilter(long windowMillis, StringRedisTemplate stringRedisTemplate, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String user = request.getHeader(USER_HEADER);
+        if (user == null || user.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (isPinned(user)) {
+            ReadRouting.forcePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadRouting.clear();
+        }
+        if (isWrite(request.getMethod()) && response.getStatus() < 400) {
+            pin(user);
+        }
+    }
+
+    private boolean isPinned(String user) {
+        Long until = pinnedUntil.get(user);
+        if (until != null && until > clock.getAsLong()) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + user));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void pin(String user) {
+        pinnedUntil.put(user, clock.getAsLong() + windowMillis);
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            long cutoff = clock.getAsLong();
+            pinnedUntil.values().removeIf(expiry -> expiry <= cutoff);
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + user, "1", Duration.ofMillis(windowMillis));
+        } catch (Exception ignored) {
+            // reads on this instance are still pinned
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
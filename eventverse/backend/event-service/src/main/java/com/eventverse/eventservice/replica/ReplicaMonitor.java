@@ -0,0 +1,169 @@
+package com.eventverse.eventservice.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tracks replication lag of the read replicas and hands out a healthy one, round robin.
+ * <p>
+ * Each replica is probed every {@code check-interval-ms}; it takes reads only while the probe
+ * succeeds and its lag is at most {@code max-lag-ms}. Replicas start out unhealthy until their
+ * first probe, and one that fails a connection is taken out until the next successful probe.
+ * Publishes {@code event.datasource.replica.lag} and {@code event.datasource.replica.healthy}
+ * per replica.
+ */
+public class ReplicaMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaMonitor.class);
+
+    // a caught-up standby reports the time of its last replayed commit, so only count lag
+    // while WAL is still waiting to be replayed
+    static final String LAG_QUERY = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1;
+        private volatile String lastError;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() { return name; }
+        public DataSource dataSource() { return dataSource; }
+        public boolean healthy() { return healthy; }
+        public long lagMillis() { return lagMillis; }
+        public String lastError() { return lastError; }
+    }
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final ToLongFunction<DataSource> lagProbe;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService executor;
+
+    public ReplicaMonitor(Map<String, DataSource> replicas, long maxLagMillis, MeterRegistry meterRegistry) {
+        this(replicas, maxLagMillis, meterRegistry, ReplicaMonitor::queryLag);
+    }
+
+    ReplicaMonitor(Map<String, DataSource> replicas, long maxLagMillis, MeterRegistry meterRegistry,
+                   ToLongFunction<DataSource> lagProbe) {
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = List.copyOf(list);
+        this.maxLagMillis = maxLagMillis;
+        this.lagProbe = lagProbe;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("event.datasource.replica.lag", replica, Replica::lagMillis)
+                    .tag("replica", replica.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("event.datasource.replica.healthy", replica, r -> r.healthy() ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /** Probes once right away, then every {@code intervalMillis}. */
+    public void start(long intervalMillis) {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::checkAll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public void checkAll() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try {
+                long lag = lagProbe.applyAsLong(replica.dataSource());
+                replica.lagMillis = lag;
+                replica.lastError = lag > maxLagMillis ? "lag " + lag + "ms exceeds " + maxLagMillis + "ms" : null;
+                replica.healthy = lag <= maxLagMillis;
+            } catch (Exception e) {
+                replica.lastError = e.getMessage();
+                replica.healthy = false;
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("Read replica [{}] is now {}{}", replica.name(), replica.healthy ? "healthy" : "unhealthy",
+                        replica.lastError != null ? ": " + replica.lastError : "");
+            }
+        }
+    }
+
+    /** Next healthy replica in round-robin order, or null when none is usable. */
+    public Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /** Takes {@code replica} out of rotation after a failed connection, until its next good probe. */
+    public void markDown(Replica replica, Exception cause) {
+        replica.lastError = cause.getMessage();
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica [{}] failed a connection, routing reads elsewhere: {}", replica.name(), cause.getMessage());
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /** Per-replica state for the health endpoint. */
+    public Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("healthy", replica.healthy());
+            state.put("lagMillis", replica.lagMillis());
+            if (replica.lastError() != null) {
+                state.put("error", replica.lastError());
+            }
+            details.put(replica.name(), state);
+        }
+        return details;
+    }
+
+    private static long queryLag(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(1);
+        Number lag = jdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+        return lag != null ? lag.longValue() : 0;
+    }
+}
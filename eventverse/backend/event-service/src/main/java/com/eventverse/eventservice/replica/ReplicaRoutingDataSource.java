@@ -0,0 +1,100 @@
+package com.eventverse.eventservice.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager fetches its connection before the read-only flag is bound, while the
+ * lazy proxy only asks for one at the first statement. Falls back to the primary when reads are
+ * pinned by {@link ReadRouting}, no replica is healthy, or the chosen replica refuses a connection.
+ * Each decision is counted in {@code event.datasource.routes} by target and reason.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaMonitor monitor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routes = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaMonitor monitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.monitor = monitor;
+        this.meterRegistry = meterRegistry;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        monitor.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        for (String reason : new String[]{"read-write", "pinned", "no-healthy-replica", "replica-failed"}) {
+            routes.put(reason, counter(PRIMARY, reason));
+        }
+        monitor.replicas().forEach(replica -> routes.put(replica.name(), counter(replica.name(), "read-only")));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReplicaMonitor.Replica replica = route();
+        return replica != null ? replica.name() : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaMonitor.Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            monitor.markDown(replica, e);
+            routes.get("replica-failed").increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ReplicaMonitor.Replica replica = route();
+        DataSource target = replica != null ? replica.dataSource() : primary;
+        return target.getConnection(username, password);
+    }
+
+    /** The replica for the current call, or null for the primary. */
+    private ReplicaMonitor.Replica route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            routes.get("read-write").increment();
+            return null;
+        }
+        if (ReadRouting.isPrimaryForced()) {
+            routes.get("pinned").increment();
+            return null;
+        }
+        ReplicaMonitor.Replica replica = monitor.pick();
+        if (replica == null) {
+            routes.get("no-healthy-replica").increment();
+            return null;
+        }
+        routes.get(replica.name()).increment();
+        return replica;
+    }
+
+    private Counter counter(String target, String reason) {
+        return Counter.builder("event.datasource.routes")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.eventverse.eventservice.repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * The columns a listing or feed card shows: everything on {@link com.eventverse.eventservice.domain.Event}
+ * except the {@code TEXT} description. Selected directly into this record, so list results are
+ * never managed (or dirty checked) by the persistence context.
+ */
+public record EventCard(
+        Long id,
+        String title,
+        String city,
+        OffsetDateTime time,
+        Integer capacity,
+        Long organizerId,
+        String venue,
+        String category,
+        String imageUrl,
+        Double latitude,
+        Double longitude,
+        Boolean publicEvent,
+        BigDecimal price,
+        Long popularityScore) {
+}
@@ -0,0 +1,34 @@
+package com.eventverse.eventservice.repository;
+
+import com.eventverse.eventservice.domain.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link EventCard} queries for list and feed endpoints, taking the same specifications as
+ * {@link EventRepository}.
+ */
+public interface EventCardRepository {
+
+    /** A page of cards; the count query is skipped when the page itself shows the total. */
+    Page<EventCard> findCards(Specification<Event> spec, Pageable pageable);
+
+    /** Up to {@code limit} cards in {@code sort} order, without a count. */
+    List<EventCard> findCards(Specification<Event> spec, Sort sort, int limit);
+
+    /** Cards for {@code ids}, in no particular order. */
+    List<EventCard> findCardsById(Collection<Long> ids);
+
+    /**
+     * Postgres full-text search over the generated {@code search_vector} column (see
+     * {@code PostgresFullTextSchema}); served by its GIN index and ranked by ts_rank_cd.
+     * {@code config} must match the text search configuration the column was built with.
+     * Public events only; {@code city} (case-insensitive) may be null.
+     */
+    Page<EventCard> searchCardsFullText(String config, String query, String city, Pageable pageable);
+}
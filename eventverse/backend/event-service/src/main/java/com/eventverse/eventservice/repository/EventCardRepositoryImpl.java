@@ -0,0 +1,153 @@
+package com.eventverse.eventservice.repository;
+
+import com.eventverse.eventservice.domain.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link EventCardRepository}: a constructor select of the card
+ * columns, so neither the description nor entity instances are loaded. Full-text search needs
+ * Postgres operators and is a native query over the same columns.
+ */
+class EventCardRepositoryImpl implements EventCardRepository {
+
+    private static final String FULL_TEXT_MATCH = """
+            FROM events e, websearch_to_tsquery(CAST(:config AS regconfig), :query) q
+            WHERE e.search_vector @@ q
+              AND e.is_public = true
+              AND (CAST(:city AS text) IS NULL OR lower(e.city) = lower(CAST(:city AS text)))
+            """;
+    private static final String FULL_TEXT_CARDS = """
+            SELECT e.id, e.title, e.city, e.event_time, e.capacity, e.organizer_id, e.venue, e.category,
+                   e.image_url, e.latitude, e.longitude, e.is_public, e.price, e.popularity_score
+            """ + FULL_TEXT_MATCH + """
+            ORDER BY ts_rank_cd(e.search_vector, q) DESC, e.popularity_score DESC, e.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventCard> findCards(Specification<Event> spec, Pageable pageable) {
+        TypedQuery<EventCard> query = cardQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<EventCard> findCards(Specification<Event> spec, Sort sort, int limit) {
+        return cardQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<EventCard> findCardsById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return cardQuery((root, q, cb) -> root.get("id").in(ids), Sort.unsorted()).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<EventCard> searchCardsFullText(String config, String query, String city, Pageable pageable) {
+        NativeQuery<Object[]> cards = entityManager.createNativeQuery(FULL_TEXT_CARDS)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("city", String.class)
+                .addScalar("event_time", OffsetDateTime.class)
+                .addScalar("capacity", Integer.class)
+                .addScalar("organizer_id", Long.class)
+                .addScalar("venue", String.class)
+                .addScalar("category", String.class)
+                .addScalar("image_url", String.class)
+                .addScalar("latitude", Double.class)
+                .addScalar("longitude", Double.class)
+                .addScalar("is_public", Boolean.class)
+                .addScalar("price", BigDecimal.class)
+                .addScalar("popularity_score", Long.class);
+        bindFullText(cards, config, query, city);
+        if (pageable.isPaged()) {
+            cards.setFirstResult((int) pageable.getOffset());
+            cards.setMaxResults(pageable.getPageSize());
+        }
+        List<EventCard> content = cards.getResultList().stream()
+                .map(row -> new EventCard((Long) row[0], (String) row[1], (String) row[2], (OffsetDateTime) row[3],
+                        (Integer) row[4], (Long) row[5], (String) row[6], (String) row[7], (String) row[8],
+                        (Double) row[9], (Double) row[10], (Boolean) row[11], (BigDecimal) row[12], (Long) row[13]))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query count = entityManager.createNativeQuery("SELECT count(*) " + FULL_TEXT_MATCH);
+            bindFullText(count, config, query, city);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    private static void bindFullText(Query query, String config, String text, String city) {
+        query.setParameter("config", config);
+        query.setParameter("query", text);
+        query.setParameter("city", city);
+    }
+
+    private TypedQuery<EventCard> cardQuery(Specification<Event> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventCard> query = cb.createQuery(EventCard.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.construct(EventCard.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("city"),
+                root.get("time"),
+                root.get("capacity"),
+                root.get("organizerId"),
+                root.get("venue"),
+                root.get("category"),
+                root.get("imageUrl"),
+                root.get("latitude"),
+                root.get("longitude"),
+                root.get("publicEvent"),
+                root.get("price"),
+                root.get("popularityScore")));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Event> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,20 +1,21 @@
 package com.eventverse.eventservice.repository;
 
 import com.eventverse.eventservice.domain.Event;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.time.OffsetDateTime;
-import java.util.List;
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>,
+        EventCardRepository {
 
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
-
-    List<Event> findByPublicEventTrueOrderByPopularityScoreDescTimeAsc(Pageable pageable);
-
-    List<Event> findByCityAndPublicEventTrueOrderByPopularityScoreDescTimeAsc(String city, Pageable pageable);
-
-    List<Event> findByPublicEventTrueAndTimeAfterOrderByTimeAsc(OffsetDateTime now, Pageable pageable);
-
-    List<Event> findByCityAndPublicEventTrueAndTimeAfterOrderByTimeAsc(String city, OffsetDateTime now, Pageable pageable);
-}
\ No newline at end of file
+    /**
+     * Sets the capacity of event {@code id} only if it is still at {@code version}; returns the
+     * number of rows changed. Bumps the version like a regular update.
+     */
+    @Modifying
+    @Query("update Event e set e.capacity = :capacity, e.version = e.version + 1 "
+            + "where e.id = :id and e.version = :version and e.capacity <> :capacity")
+    int reconcileCapacity(@Param("id") Long id, @Param("capacity") Integer capacity, @Param("version") Long version);
+}
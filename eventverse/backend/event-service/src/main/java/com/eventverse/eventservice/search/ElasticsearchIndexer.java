@@ -0,0 +1,37 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes batches to the {@code events} index with the bulk API.
+ * Not registered when another engine ({@code event.search.engine}) serves full-text search.
+ */
+@Component
+@ConditionalOnProperty(name = "event.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ElasticsearchIndexer implements SearchIndexer {
+
+    private final ElasticsearchOperations operations;
+
+    @Override
+    public void bulk(List<Event> upserts, Collection<Long> deletes) {
+        if (!upserts.isEmpty()) {
+            // save(Iterable) is sent as a single bulk request
+            operations.save(upserts.stream().map(EventDocument::from).toList());
+        }
+        if (!deletes.isEmpty()) {
+            NativeQuery byIds = NativeQuery.builder()
+                    .withIds(deletes.stream().map(String::valueOf).toList())
+                    .build();
+            operations.delete(byIds, EventDocument.class);
+        }
+    }
+}
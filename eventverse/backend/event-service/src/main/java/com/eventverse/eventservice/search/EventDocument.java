@@ -1,5 +1,6 @@
 package com.eventverse.eventservice.search;
 
+import com.eventverse.eventservice.domain.Event;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,4 +45,18 @@ public class EventDocument {
 
     @Field(type = FieldType.Keyword)
     private String imageUrl;
+
+    public static EventDocument from(Event ev) {
+        return EventDocument.builder()
+                .id(ev.getId())
+                .title(ev.getTitle())
+                .description(ev.getDescription())
+                .city(ev.getCity())
+                .venue(ev.getVenue())
+                .category(ev.getCategory())
+                .time(ev.getTime())
+                .imageUrl(ev.getImageUrl())
+                .popularityScore(ev.getPopularityScore())
+                .build();
+    }
 }
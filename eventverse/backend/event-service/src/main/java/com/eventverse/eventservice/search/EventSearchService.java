@@ -1,6 +1,5 @@
 package com.eventverse.eventservice.search;
 
-import com.eventverse.eventservice.domain.Event;
 import com.eventverse.eventservice.dto.EventResponse;
 import com.eventverse.eventservice.mapper.EventMapper;
 import lombok.RequiredArgsConstructor;
@@ -55,14 +54,6 @@ public class EventSearchService {
         return new PageImpl<>(responses, PageRequest.of(page, size), hits.getTotalHits());
     }
 
-    public void index(Event event) {
-        operations.save(toDocument(event));
-    }
-
-    public void delete(Long id) {
-        operations.delete(id.toString(), EventDocument.class);
-    }
-
     private Optional<EventResponse> toResponse(EventDocument doc) {
         if (doc == null || doc.getId() == null) return Optional.empty();
         EventResponse resp = new EventResponse();
@@ -76,18 +67,4 @@ public class EventSearchService {
         resp.setImageUrl(doc.getImageUrl());
         return Optional.of(resp);
     }
-
-    private EventDocument toDocument(Event ev) {
-        return EventDocument.builder()
-                .id(ev.getId())
-                .title(ev.getTitle())
-                .description(ev.getDescription())
-                .city(ev.getCity())
-                .venue(ev.getVenue())
-                .category(ev.getCategory())
-                .time(ev.getTime())
-                .imageUrl(ev.getImageUrl())
-                .popularityScore(ev.getPopularityScore())
-                .build();
-    }
 }
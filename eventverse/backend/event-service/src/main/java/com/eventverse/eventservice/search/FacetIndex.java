@@ -0,0 +1,356 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventFacets;
+import com.eventverse.eventservice.exception.InvalidFilterException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmap indexes over events for facet counts and filters.
+ * <p>
+ * Every event gets a dense int ordinal; there is one Roaring bitmap of ordinals per category,
+ * per city, per event day and for the public flag. Filters are bitmap intersections and each
+ * facet value is counted with {@link RoaringBitmap#andCardinality}, so no rows are read.
+ * As usual for facets, the counts of a dimension ignore that dimension's own filter, so the
+ * client can show the alternatives to the selected value.
+ * <p>
+ * Day bitmaps are folded into the {@link DateBucket}s relative to today (in {@code zone}); the
+ * folded bitmaps are cached until the index changes or the day rolls over.
+ * <p>
+ * Kept current as a replica-local {@link SearchIndexer} sink of {@link SearchIndexingPipeline}.
+ */
+@Component
+public class FacetIndex implements SearchIndexer {
+
+    /** Non-overlapping event date buckets, relative to today. */
+    public enum DateBucket {
+        PAST, TODAY, TOMORROW, THIS_WEEK, THIS_MONTH, LATER;
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static DateBucket fromKey(String key) {
+            for (DateBucket bucket : values()) {
+                if (bucket.key().equalsIgnoreCase(key) || bucket.name().equalsIgnoreCase(key)) {
+                    return bucket;
+                }
+            }
+            throw new InvalidFilterException("Unknown date bucket " + key);
+        }
+    }
+
+    private final ZoneId zone;
+    private final int maxValues;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private Posting[] postings = new Posting[1024];
+    private int nextOrdinal;
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final RoaringBitmap publicEvents = new RoaringBitmap();
+    private final Map<String, Facet> categories = new HashMap<>();
+    private final Map<String, Facet> cities = new HashMap<>();
+    private final NavigableMap<Long, RoaringBitmap> days = new TreeMap<>();
+
+    // date buckets folded from the day bitmaps, valid for one day and index version
+    private long version;
+    private volatile BucketCache buckets;
+
+    private final Timer queries;
+    private volatile boolean ready;
+
+    public FacetIndex(MeterRegistry meterRegistry,
+                      @Value("${event.search.facets.zone:UTC}") String zone,
+                      @Value("${event.search.facets.max-values:50}") int maxValues) {
+        this.zone = ZoneId.of(zone);
+        this.maxValues = maxValues;
+        this.queries = Timer.builder("event.search.facets")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("event.search.facets.events", this, FacetIndex::size).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public boolean replicaLocal() {
+        return true;
+    }
+
+    @Override
+    public void onBuildComplete() {
+        ready = true;
+    }
+
+    @Override
+    public void bulk(List<Event> upserts, Collection<Long> deletes) {
+        lock.writeLock().lock();
+        try {
+            upserts.forEach(this::upsert);
+            deletes.forEach(this::remove);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Facet counts over public events, narrowed by the optional filters.
+     *
+     * @param restrictTo event ids to count within (e.g. the matches of a text query), or null for all
+     */
+    public EventFacets facets(Collection<Long> restrictTo, String city, String category, DateBucket date) {
+        return facets(restrictTo, city, category, date, LocalDate.now(zone));
+    }
+
+    EventFacets facets(Collection<Long> restrictTo, String city, String category, DateBucket date, LocalDate today) {
+        long started = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            // only read here, never modified; identity with publicEvents selects the precomputed counts
+            RoaringBitmap base = publicEvents;
+            if (restrictTo != null) {
+                RoaringBitmap restricted = new RoaringBitmap();
+                for (Long id : restrictTo) {
+                    Integer ordinal = ordinals.get(id);
+                    if (ordinal != null) {
+                        restricted.add(ordinal);
+                    }
+                }
+                base = RoaringBitmap.and(publicEvents, restricted);
+            }
+            BucketCache buckets = bucketBitmaps(today);
+            Map<DateBucket, RoaringBitmap> byBucket = buckets.bitmaps();
+            RoaringBitmap cityFilter = city != null && !city.isBlank() ? bitmapOf(cities, city) : null;
+            RoaringBitmap categoryFilter = category != null && !category.isBlank() ? bitmapOf(categories, category) : null;
+            RoaringBitmap dateFilter = date != null ? byBucket.get(date) : null;
+
+            EventFacets result = new EventFacets();
+            result.setReady(ready);
+            result.setTotal(intersect(base, cityFilter, categoryFilter, dateFilter).getLongCardinality());
+            result.setCategories(counts(categories, intersect(base, cityFilter, dateFilter)));
+            result.setCities(counts(cities, intersect(base, categoryFilter, dateFilter)));
+            RoaringBitmap dateContext = intersect(base, cityFilter, categoryFilter);
+            Map<String, Long> dates = new LinkedHashMap<>();
+            byBucket.forEach((bucket, bitmap) -> dates.put(bucket.key(), dateContext == publicEvents
+                    ? buckets.publicCounts().get(bucket)
+                    : (long) RoaringBitmap.andCardinality(dateContext, bitmap)));
+            result.setDates(dates);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+            queries.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // callers hold the write lock
+    private void upsert(Event event) {
+        Integer existing = ordinals.get(event.getId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            unindex(ordinal);
+        } else {
+            ordinal = allocate(event.getId());
+        }
+        String categoryKey = key(event.getCategory());
+        String cityKey = key(event.getCity());
+        Long day = event.getTime() != null ? event.getTime().atZoneSameInstant(zone).toLocalDate().toEpochDay() : null;
+
+        boolean isPublic = event.isPublicEvent();
+        if (isPublic) {
+            publicEvents.add(ordinal);
+        }
+        if (categoryKey != null) {
+            categories.computeIfAbsent(categoryKey, k -> new Facet(event.getCategory().trim())).add(ordinal, isPublic);
+        }
+        if (cityKey != null) {
+            cities.computeIfAbsent(cityKey, k -> new Facet(event.getCity().trim())).add(ordinal, isPublic);
+        }
+        if (day != null) {
+            days.computeIfAbsent(day, d -> new RoaringBitmap()).add(ordinal);
+        }
+        postings[ordinal] = new Posting(categoryKey, cityKey, day);
+    }
+
+    private void remove(Long eventId) {
+        Integer ordinal = ordinals.remove(eventId);
+        if (ordinal == null) {
+            return;
+        }
+        unindex(ordinal);
+        postings[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    private void unindex(int ordinal) {
+        Posting posting = postings[ordinal];
+        boolean wasPublic = publicEvents.checkedRemove(ordinal);
+        if (posting == null) {
+            return;
+        }
+        removeFrom(categories, posting.category(), ordinal, wasPublic);
+        removeFrom(cities, posting.city(), ordinal, wasPublic);
+        if (posting.day() != null) {
+            RoaringBitmap day = days.get(posting.day());
+            if (day != null) {
+                day.remove(ordinal);
+                if (day.isEmpty()) {
+                    days.remove(posting.day());
+                }
+            }
+        }
+    }
+
+    private int allocate(Long eventId) {
+        // ordinals of deleted events are reused so the bitmaps stay dense
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= postings.length) {
+            postings = Arrays.copyOf(postings, postings.length * 2);
+        }
+        ordinals.put(eventId, ordinal);
+        return ordinal;
+    }
+
+    private static void removeFrom(Map<String, Facet> facets, String key, int ordinal, boolean wasPublic) {
+        if (key == null) {
+            return;
+        }
+        Facet facet = facets.get(key);
+        if (facet != null) {
+            facet.remove(ordinal, wasPublic);
+            if (facet.bitmap.isEmpty()) {
+                facets.remove(key);
+            }
+        }
+    }
+
+    // callers hold the read lock; concurrent readers may both fold, which is harmless
+    private BucketCache bucketBitmaps(LocalDate today) {
+        long todayDay = today.toEpochDay();
+        BucketCache cached = buckets;
+        if (cached != null && cached.day() == todayDay && cached.version() == version) {
+            return cached;
+        }
+        Map<DateBucket, RoaringBitmap> bitmaps = new EnumMap<>(DateBucket.class);
+        bitmaps.put(DateBucket.PAST, fold(days.headMap(todayDay, false)));
+        bitmaps.put(DateBucket.TODAY, fold(days.subMap(todayDay, true, todayDay, true)));
+        bitmaps.put(DateBucket.TOMORROW, fold(days.subMap(todayDay + 1, true, todayDay + 1, true)));
+        bitmaps.put(DateBucket.THIS_WEEK, fold(days.subMap(todayDay + 2, true, todayDay + 7, false)));
+        bitmaps.put(DateBucket.THIS_MONTH, fold(days.subMap(todayDay + 7, true, todayDay + 30, false)));
+        bitmaps.put(DateBucket.LATER, fold(days.tailMap(todayDay + 30, true)));
+        Map<DateBucket, Long> publicCounts = new EnumMap<>(DateBucket.class);
+        bitmaps.forEach((bucket, bitmap) -> publicCounts.put(bucket, (long) RoaringBitmap.andCardinality(publicEvents, bitmap)));
+        cached = new BucketCache(todayDay, version, bitmaps, publicCounts);
+        buckets = cached;
+        return cached;
+    }
+
+    private static RoaringBitmap fold(NavigableMap<Long, RoaringBitmap> range) {
+        return range.isEmpty() ? new RoaringBitmap() : FastAggregation.or(range.values().iterator());
+    }
+
+    private static RoaringBitmap bitmapOf(Map<String, Facet> facets, String value) {
+        Facet facet = facets.get(key(value));
+        // an unknown value matches nothing
+        return facet != null ? facet.bitmap : new RoaringBitmap();
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = RoaringBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    /** Non-zero counts per facet value within {@code context}, largest first, at most {@code max-values}. */
+    private Map<String, Long> counts(Map<String, Facet> facets, RoaringBitmap context) {
+        List<Map.Entry<String, Long>> counted = new ArrayList<>();
+        for (Facet facet : facets.values()) {
+            // unnarrowed counts are kept up to date on write
+            long count = context == publicEvents ? facet.publicCount : RoaringBitmap.andCardinality(context, facet.bitmap);
+            if (count > 0) {
+                counted.add(Map.entry(facet.label, count));
+            }
+        }
+        counted.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> result = new LinkedHashMap<>();
+        counted.stream().limit(maxValues).forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    private static String key(String value) {
+        return value != null && !value.isBlank() ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static final class Facet {
+        private final String label;
+        private final RoaringBitmap bitmap = new RoaringBitmap();
+        private int publicCount;
+
+        private Facet(String label) {
+            this.label = label;
+        }
+
+        private void add(int ordinal, boolean isPublic) {
+            bitmap.add(ordinal);
+            if (isPublic) {
+                publicCount++;
+            }
+        }
+
+        private void remove(int ordinal, boolean wasPublic) {
+            if (bitmap.checkedRemove(ordinal) && wasPublic) {
+                publicCount--;
+            }
+        }
+    }
+
+    private record Posting(String category, String city, Long day) {
+    }
+
+    private record BucketCache(long day, long version, Map<DateBucket, RoaringBitmap> bitmaps,
+                               Map<DateBucket, Long> publicCounts) {
+    }
+}
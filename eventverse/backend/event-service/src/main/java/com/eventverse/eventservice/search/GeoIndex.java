@@ -0,0 +1,277 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spatial index over upcoming public events that have coordinates.
+ * <p>
+ * The globe is cut into a fixed grid of {@code cell-degrees} square cells; every cell holds its
+ * events bucketed by time window ({@code window-hours}). A radius query visits the cells
+ * overlapping the circle's bounding box, takes the windows overlapping the requested time
+ * range from each, and checks the candidates' great-circle distance. Windows that have ended
+ * are dropped as time moves on, so the index only ever holds upcoming events.
+ * <p>
+ * Kept current as a replica-local {@link SearchIndexer} sink of {@link SearchIndexingPipeline}.
+ */
+@Component
+public class GeoIndex implements SearchIndexer {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private static final Comparator<Hit> NEAREST_FIRST = Comparator.comparingDouble(Hit::distanceKm)
+            .thenComparingLong(Hit::epochSecond)
+            .thenComparingLong(Hit::eventId);
+
+    private final double cellDegrees;
+    private final int lonCells;
+    private final long windowSeconds;
+    private final double maxRadiusKm;
+    private final Clock clock;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // cell -> window -> events starting in that window and cell
+    private final Map<Long, NavigableMap<Long, List<Point>>> cells = new HashMap<>();
+    private final Map<Long, Point> byEvent = new HashMap<>();
+    private long prunedBefore = Long.MIN_VALUE;
+
+    private final Timer queries;
+    private volatile boolean ready;
+
+    @Autowired
+    public GeoIndex(MeterRegistry meterRegistry,
+                    @Value("${event.search.geo.cell-degrees:0.05}") double cellDegrees,
+                    @Value("${event.search.geo.window-hours:24}") int windowHours,
+                    @Value("${event.search.geo.max-radius-km:200}") double maxRadiusKm) {
+        this(meterRegistry, cellDegrees, windowHours, maxRadiusKm, Clock.systemUTC());
+    }
+
+    GeoIndex(MeterRegistry meterRegistry, double cellDegrees, int windowHours, double maxRadiusKm, Clock clock) {
+        if (cellDegrees <= 0 || cellDegrees > 10) {
+            throw new IllegalArgumentException("cell-degrees must be in (0, 10]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+        this.windowSeconds = TimeUnit.HOURS.toSeconds(windowHours);
+        this.maxRadiusKm = maxRadiusKm;
+        this.clock = clock;
+        this.queries = Timer.builder("event.search.geo")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("event.search.geo.events", this, GeoIndex::size).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public double maxRadiusKm() {
+        return maxRadiusKm;
+    }
+
+    @Override
+    public boolean replicaLocal() {
+        return true;
+    }
+
+    @Override
+    public void onBuildComplete() {
+        ready = true;
+    }
+
+    @Override
+    public void bulk(List<Event> upserts, Collection<Long> deletes) {
+        lock.writeLock().lock();
+        try {
+            pruneEndedWindows();
+            upserts.forEach(this::upsert);
+            deletes.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Events within {@code radiusKm} of the point that start in {@code [from, to]}, nearest first
+     * and, at the same distance, soonest first.
+     */
+    public List<Hit> nearby(double lat, double lon, double radiusKm, Instant from, Instant to, int limit) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new IllegalArgumentException("Coordinates out of range");
+        }
+        if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("radiusKm must be in (0, " + maxRadiusKm + "]");
+        }
+        if (to.isBefore(from) || limit <= 0) {
+            throw new IllegalArgumentException("to must not be before from and limit must be positive");
+        }
+        long started = System.nanoTime();
+        long fromSecond = from.getEpochSecond();
+        long toSecond = to.getEpochSecond();
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + latSpan)));
+        // near the poles the circle spans every meridian
+        double lonSpan = cosLat < 1e-6 ? 180 : Math.min(180, latSpan / cosLat);
+
+        int latFrom = latIndex(Math.max(-90, lat - latSpan));
+        int latTo = latIndex(Math.min(90, lat + latSpan));
+        int lonFrom = (int) Math.floor((lon - lonSpan + 180) / cellDegrees);
+        int lonTo = (int) Math.floor((lon + lonSpan + 180) / cellDegrees);
+        if (lonTo - lonFrom + 1 >= lonCells) {
+            lonFrom = 0;
+            lonTo = lonCells - 1;
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int latCell = latFrom; latCell <= latTo; latCell++) {
+                for (int i = lonFrom; i <= lonTo; i++) {
+                    // wraps across the antimeridian
+                    NavigableMap<Long, List<Point>> windows = cells.get(cellKey(latCell, Math.floorMod(i, lonCells)));
+                    if (windows == null) {
+                        continue;
+                    }
+                    for (List<Point> points : windows.subMap(window(fromSecond), true, window(toSecond), true).values()) {
+                        for (Point p : points) {
+                            if (p.epochSecond() < fromSecond || p.epochSecond() > toSecond) {
+                                continue;
+                            }
+                            double distance = distanceKm(lat, lon, p.lat(), p.lon());
+                            if (distance <= radiusKm) {
+                                hits.add(new Hit(p.eventId(), distance, p.epochSecond()));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(NEAREST_FIRST);
+        List<Hit> result = hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        queries.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Haversine distance in kilometres. */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // callers hold the write lock
+    private void upsert(Event event) {
+        remove(event.getId());
+        Double lat = event.getLatitude();
+        Double lon = event.getLongitude();
+        if (!event.isPublicEvent() || lat == null || lon == null || event.getTime() == null
+                || Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+            return;
+        }
+        long epochSecond = event.getTime().toEpochSecond();
+        long window = window(epochSecond);
+        if (window < prunedBefore) {
+            return;
+        }
+        long cell = cellKey(latIndex(lat), lonIndex(lon));
+        Point point = new Point(event.getId(), lat, lon, epochSecond, cell, window);
+        cells.computeIfAbsent(cell, c -> new TreeMap<>())
+                .computeIfAbsent(window, w -> new ArrayList<>(2))
+                .add(point);
+        byEvent.put(event.getId(), point);
+    }
+
+    private void remove(Long eventId) {
+        Point point = byEvent.remove(eventId);
+        if (point == null) {
+            return;
+        }
+        NavigableMap<Long, List<Point>> windows = cells.get(point.cell());
+        if (windows == null) {
+            return;
+        }
+        List<Point> points = windows.get(point.window());
+        if (points != null) {
+            points.removeIf(p -> p.eventId() == eventId);
+            if (points.isEmpty()) {
+                windows.remove(point.window());
+            }
+        }
+        if (windows.isEmpty()) {
+            cells.remove(point.cell());
+        }
+    }
+
+    // a full sweep, but only once per window
+    private void pruneEndedWindows() {
+        long current = window(clock.instant().getEpochSecond());
+        if (current <= prunedBefore) {
+            return;
+        }
+        Iterator<NavigableMap<Long, List<Point>>> it = cells.values().iterator();
+        while (it.hasNext()) {
+            NavigableMap<Long, List<Point>> ended = it.next().headMap(current, false);
+            ended.values().forEach(points -> points.forEach(p -> byEvent.remove(p.eventId())));
+            ended.clear();
+        }
+        cells.values().removeIf(Map::isEmpty);
+        prunedBefore = current;
+    }
+
+    private long window(long epochSecond) {
+        return Math.floorDiv(epochSecond, windowSeconds);
+    }
+
+    private int latIndex(double lat) {
+        return (int) Math.floor((lat + 90) / cellDegrees);
+    }
+
+    private int lonIndex(double lon) {
+        return Math.floorMod((int) Math.floor((lon + 180) / cellDegrees), lonCells);
+    }
+
+    private long cellKey(int latIndex, int lonIndex) {
+        return (long) latIndex * lonCells + lonIndex;
+    }
+
+    public record Hit(long eventId, double distanceKm, long epochSecond) {
+    }
+
+    private record Point(long eventId, double lat, double lon, long epochSecond, long cell, long window) {
+    }
+}
@@ -0,0 +1,271 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over public events, used by full-text search when Elasticsearch
+ * is unavailable or empty.
+ * <p>
+ * Terms from title, description, venue, category and city are stored with field-boosted term
+ * frequencies; queries are ranked with BM25, and each query term also matches indexed terms it
+ * is a prefix of (at a discount), so partially typed words still find results.
+ * It is a replica-local {@link SearchIndexer} sink of {@link SearchIndexingPipeline}, which
+ * fills it at startup and keeps it current.
+ */
+@Component
+public class LocalSearchIndex implements SearchIndexer {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (event id -> boosted term frequency); sorted for prefix lookups
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+    private volatile boolean ready;
+
+    public LocalSearchIndex(MeterRegistry meterRegistry,
+                            @Value("${event.search.local.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        Gauge.builder("event.search.local.documents", this, LocalSearchIndex::size).register(meterRegistry);
+        Gauge.builder("event.search.local.terms", this, LocalSearchIndex::termCount).register(meterRegistry);
+    }
+
+    /** True once the startup build has finished; until then searches should not rely on it. */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Override
+    public void onBuildComplete() {
+        ready = true;
+    }
+
+    @Override
+    public boolean replicaLocal() {
+        return true;
+    }
+
+    @Override
+    public void bulk(List<Event> upserts, Collection<Long> deletes) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            upserts.forEach(this::upsert);
+            deletes.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks public events matching {@code query}, optionally restricted to {@code city}.
+     * Returns event ids, best match first.
+     */
+    public Page<Long> search(String query, String city, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String cityKey = city != null && !city.isBlank() ? city.toLowerCase(Locale.ROOT) : null;
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            double avgLength = n == 0 ? 1 : (double) totalLength / n;
+            for (String term : terms) {
+                // best score per document for this query term across its exact and prefix matches
+                Map<Long, Double> termScores = new HashMap<>();
+                int expansions = 0;
+                for (Map.Entry<String, Map<Long, Integer>> entry
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    boolean exact = entry.getKey().equals(term);
+                    if (!exact && ++expansions > MAX_PREFIX_EXPANSIONS) {
+                        continue;
+                    }
+                    Map<Long, Integer> posting = entry.getValue();
+                    double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                    double weight = exact ? 1.0 : PREFIX_WEIGHT;
+                    posting.forEach((id, tf) -> {
+                        Doc doc = docs.get(id);
+                        if (cityKey != null && !cityKey.equals(doc.city())) {
+                            return;
+                        }
+                        double norm = tf + K1 * (1 - B + B * doc.length() / avgLength);
+                        double score = weight * idf * tf * (K1 + 1) / norm;
+                        termScores.merge(id, score, Math::max);
+                    });
+                }
+                termScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // keep only the top (page + 1) * size instead of sorting every match
+        int limit = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE);
+        Comparator<Map.Entry<Long, Double>> byRank = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byRank);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        int from = Math.min(page * size, ranked.size());
+        return new PageImpl<>(ranked.subList(from, ranked.size()), pageable, scores.size());
+    }
+
+    /**
+     * Ids of every public event {@link #search} would rank for {@code query}, unordered;
+     * used to narrow facet counts to a text query.
+     */
+    public Set<Long> matches(String query) {
+        Set<Long> ids = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (String term : tokenize(query)) {
+                int expansions = 0;
+                for (Map.Entry<String, Map<Long, Integer>> entry
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    if (!entry.getKey().equals(term) && ++expansions > MAX_PREFIX_EXPANSIONS) {
+                        continue;
+                    }
+                    ids.addAll(entry.getValue().keySet());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // callers hold the write lock
+    private void upsert(Event event) {
+        Doc existing = docs.get(event.getId());
+        if (existing != null && existing.version() != null && event.getVersion() != null
+                && event.getVersion() < existing.version()) {
+            // an older snapshot (e.g. from the startup build) racing a newer change
+            return;
+        }
+        remove(event.getId());
+        if (!event.isPublicEvent()) {
+            return;
+        }
+        Map<String, Integer> tf = new HashMap<>();
+        addField(tf, event.getTitle(), 3);
+        addField(tf, event.getCategory(), 2);
+        addField(tf, event.getCity(), 2);
+        addField(tf, event.getVenue(), 1);
+        addField(tf, event.getDescription(), 1);
+        if (tf.isEmpty()) {
+            return;
+        }
+        int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+        tf.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(event.getId(), count));
+        String city = event.getCity() != null ? event.getCity().toLowerCase(Locale.ROOT) : null;
+        docs.put(event.getId(), new Doc(city, length, event.getVersion(), List.copyOf(tf.keySet())));
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        totalLength -= doc.length();
+        for (String term : doc.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Integer> tf, String text, int boost) {
+        for (String token : tokenize(text)) {
+            tf.merge(token, boost, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private record Doc(String city, int length, Long version, List<String> terms) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventverse.eventservice.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the generated {@code search_vector} column and its GIN index to {@code events} when
+ * Postgres full-text search is the configured engine. The tables themselves are created by
+ * Hibernate, so this runs once the application is ready; both statements are idempotent.
+ * <p>
+ * Weights: title A, category B, venue C, description D.
+ */
+@Component
+@ConditionalOnProperty(name = "event.search.engine", havingValue = "postgres")
+public class PostgresFullTextSchema {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String textSearchConfig;
+
+    public PostgresFullTextSchema(JdbcTemplate jdbcTemplate,
+                                  @Value("${event.search.postgres.config:english}") String textSearchConfig) {
+        if (!textSearchConfig.matches("[a-z_]+")) {
+            throw new IllegalArgumentException("Invalid text search configuration: " + textSearchConfig);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.textSearchConfig = textSearchConfig;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureSchema() {
+        // generated columns need an immutable expression, hence the inlined regconfig literal
+        String cfg = "'" + textSearchConfig + "'::regconfig";
+        jdbcTemplate.execute("""
+                ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector(%1$s, coalesce(title, '')), 'A') ||
+                    setweight(to_tsvector(%1$s, coalesce(category, '')), 'B') ||
+                    setweight(to_tsvector(%1$s, coalesce(venue, '')), 'C') ||
+                    setweight(to_tsvector(%1$s, coalesce(description, '')), 'D')
+                ) STORED
+                """.formatted(cfg));
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector)");
+    }
+}
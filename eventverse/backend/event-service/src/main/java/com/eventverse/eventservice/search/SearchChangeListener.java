@@ -0,0 +1,26 @@
+package com.eventverse.eventservice.search;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives search index changes committed by any event-service replica and queues them for
+ * this replica's local sinks.
+ */
+@Component
+public class SearchChangeListener implements MessageListener {
+
+    private final SearchIndexingPipeline pipeline;
+
+    public SearchChangeListener(SearchIndexingPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        pipeline.onRemoteChange(new String(message.getBody(), StandardCharsets.UTF_8).trim());
+    }
+}
@@ -0,0 +1,28 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sink that {@link SearchIndexingPipeline} flushes batched changes into.
+ * Implementations should apply the whole batch in as few round trips as possible and throw
+ * if it could not be applied, so the pipeline can retry it; batches may be applied again.
+ */
+public interface SearchIndexer {
+
+    void bulk(List<Event> upserts, Collection<Long> deletes);
+
+    /**
+     * True for sinks held in this replica's memory. They also receive changes committed by other
+     * replicas, which shared sinks such as Elasticsearch already got from the writing replica.
+     */
+    default boolean replicaLocal() {
+        return false;
+    }
+
+    /** Called on replica-local sinks once the startup build has streamed every event into them. */
+    default void onBuildComplete() {
+    }
+}
@@ -0,0 +1,454 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.replica.ReadRouting;
+import com.eventverse.eventservice.repository.EventRepository;
+import com.eventverse.eventservice.sharding.ShardContext;
+import com.eventverse.eventservice.sharding.ShardId;
+import com.eventverse.eventservice.sharding.ShardResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queues search index changes and applies them to the {@link SearchIndexer} in bulk.
+ * <p>
+ * Only event ids are queued, after the writing transaction commits; repeated changes to the same
+ * event coalesce into one pending entry and the flush reloads the latest committed row, so the
+ * index never sees uncommitted or intermediate state. Batches are flushed every
+ * {@code flush-ms} or as soon as {@code batch-size} changes are pending. Failed batches are
+ * re-queued and retried up to {@code max-attempts} times.
+ * <p>
+ * Committed changes are also broadcast on {@link #CHANGES_CHANNEL}; other replicas queue them
+ * for their {@link SearchIndexer#replicaLocal() replica-local} sinks only.
+ */
+@Component
+public class SearchIndexingPipeline {
+
+    public static final String CHANGES_CHANNEL = "search:index:changes";
+
+    private final EventRepository eventRepository;
+    private final ShardResolver shardResolver;
+    private final List<SearchIndexer> sinks;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String origin = UUID.randomUUID().toString();
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final ExecutorService buildExecutor;
+    private final Timer lag;
+
+    // guards replica-local sinks while the startup build streams into them
+    private final Object localSinks = new Object();
+    private boolean buildingLocal;
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+
+    public SearchIndexingPipeline(EventRepository eventRepository,
+                                  ShardResolver shardResolver,
+                                  List<SearchIndexer> sinks,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${event.search.index.batch-size:500}") int batchSize,
+                                  @Value("${event.search.index.flush-ms:1000}") long flushMillis,
+                                  @Value("${event.search.index.max-attempts:5}") int maxAttempts) {
+        this.eventRepository = eventRepository;
+        this.shardResolver = shardResolver;
+        this.sinks = List.copyOf(sinks);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "search-indexer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.buildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "search-index-build");
+            t.setDaemon(true);
+            return t;
+        });
+        this.lag = Timer.builder("event.search.index.lag")
+                .description("Time from commit to the change being applied to the search index")
+                .register(meterRegistry);
+        Gauge.builder("event.search.index.pending", pending, Map::size).register(meterRegistry);
+        if (flushMillis > 0) {
+            executor.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Queues a reindex of {@code id} once the current transaction (if any) commits. */
+    public void index(Long id) {
+        enqueue(id, false);
+    }
+
+    /**
+     * Queues a reindex of every id in {@code ids} once the current transaction (if any) commits,
+     * broadcasting them to other replicas in one pipelined round trip.
+     */
+    public void indexAll(Collection<Long> ids) {
+        List<Long> batch = ids.stream().filter(Objects::nonNull).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAll(batch);
+                }
+            });
+        } else {
+            enqueueAll(batch);
+        }
+    }
+
+    /** Queues removal of {@code id} from the index once the current transaction (if any) commits. */
+    public void delete(Long id) {
+        enqueue(id, true);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Applies up to one batch of pending changes; returns how many changes it took.
+     * Runs on the pipeline thread, and directly in tests.
+     */
+    public int flush() {
+        Map<Long, Pending> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<Long, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext() && batch.size() < batchSize) {
+            Map.Entry<Long, Pending> entry = it.next();
+            // claim the entry; a change queued meanwhile replaces it and is flushed next time
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> upsertIds = new ArrayList<>();
+        Set<Long> deletes = new HashSet<>();
+        batch.forEach((id, change) -> (change.delete() ? deletes : upsertIds).add(id));
+        boolean failed = false;
+        List<Event> upserts = List.of();
+        try {
+            upserts = loadEvents(upsertIds);
+            // rows gone by the time we flush were deleted after being queued
+            Set<Long> found = new HashSet<>();
+            upserts.forEach(e -> found.add(e.getId()));
+            upsertIds.stream().filter(id -> !found.contains(id)).forEach(deletes::add);
+        } catch (Exception e) {
+            failed = true;
+        }
+
+        for (SearchIndexer sink : failed ? List.<SearchIndexer>of() : sinks) {
+            // changes from other replicas already reached shared sinks through their writer
+            List<Event> sinkUpserts = sink.replicaLocal() ? upserts
+                    : upserts.stream().filter(e -> !batch.get(e.getId()).localOnly()).toList();
+            List<Long> sinkDeletes = sink.replicaLocal() ? List.copyOf(deletes)
+                    : deletes.stream().filter(id -> !batch.get(id).localOnly()).toList();
+            if (sinkUpserts.isEmpty() && sinkDeletes.isEmpty()) {
+                continue;
+            }
+            try {
+                if (sink.replicaLocal()) {
+                    applyLocal(sink, sinkUpserts, sinkDeletes, batch.keySet());
+                } else {
+                    sink.bulk(sinkUpserts, sinkDeletes);
+                }
+            } catch (Exception e) {
+                // retried as a whole; sinks that succeeded just apply the batch again
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            requeue(batch);
+        } else {
+            long now = System.currentTimeMillis();
+            batch.values().forEach(change -> lag.record(Duration.ofMillis(now - change.enqueuedAt())));
+            count("indexed", upserts.size());
+            count("deleted", deletes.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Streams every event into all sinks in id order, {@code batch-size} rows at a time,
+     * bypassing the queue. Returns the number of events indexed.
+     */
+    public long reindexAll() {
+        long indexed = streamAll(sinks);
+        count("indexed", (int) indexed);
+        return indexed;
+    }
+
+    /**
+     * Replica-local sinks start empty, so they are filled from the database once the
+     * application is ready; each is told when the initial build has finished.
+     * <p>
+     * The build runs on its own thread so flushes to Elasticsearch are not held up behind the
+     * full table scan. Changes flushed meanwhile are kept from the local sinks, where the build
+     * could overwrite them with rows it read earlier, and replayed from the database once the
+     * build has finished.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildLocalSinks() {
+        List<SearchIndexer> local = sinks.stream().filter(SearchIndexer::replicaLocal).toList();
+        if (local.isEmpty()) {
+            return;
+        }
+        synchronized (localSinks) {
+            buildingLocal = true;
+        }
+        buildExecutor.execute(() -> {
+            boolean streamed = false;
+            try {
+                streamAll(local);
+                streamed = true;
+            } catch (Exception ignored) {
+                // local sinks stay not ready; callers keep their database fallbacks
+            }
+            synchronized (localSinks) {
+                try {
+                    if (streamed) {
+                        replay(local, List.copyOf(changedDuringBuild));
+                        local.forEach(SearchIndexer::onBuildComplete);
+                    }
+                } catch (Exception ignored) {
+                    // as above
+                } finally {
+                    changedDuringBuild.clear();
+                    buildingLocal = false;
+                }
+            }
+        });
+    }
+
+    private void applyLocal(SearchIndexer sink, List<Event> upserts, Collection<Long> deletes, Set<Long> ids) {
+        synchronized (localSinks) {
+            if (buildingLocal) {
+                changedDuringBuild.addAll(ids);
+                return;
+            }
+            sink.bulk(upserts, deletes);
+        }
+    }
+
+    private void replay(List<SearchIndexer> targets, List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<Event> rows = loadEvents(chunk);
+            Set<Long> deletes = new HashSet<>(chunk);
+            rows.forEach(e -> deletes.remove(e.getId()));
+            for (SearchIndexer sink : targets) {
+                sink.bulk(rows, deletes);
+            }
+        }
+    }
+
+    private long streamAll(List<SearchIndexer> targets) {
+        long indexed = 0;
+        long lastId = 0;
+        while (true) {
+            long after = lastId;
+            List<Event> rows = ReadRouting.onPrimary(() -> eventRepository.findBy(
+                    (root, query, cb) -> cb.greaterThan(root.get("id"), after),
+                    q -> q.sortBy(Sort.by(Sort.Direction.ASC, "id")).limit(batchSize).all()));
+            if (rows.isEmpty()) {
+                return indexed;
+            }
+            for (SearchIndexer sink : targets) {
+                sink.bulk(rows, List.of());
+            }
+            indexed += rows.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // give queued changes one last chance before the replica goes away;
+        // anything lost here is repaired by the next reindex
+        flushQuietly();
+    }
+
+    /**
+     * Queues a change committed on another replica; it is only applied to replica-local sinks.
+     * Called by {@link SearchChangeListener}.
+     */
+    public void onRemoteChange(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3 || parts[0].equals(origin)) {
+            return;
+        }
+        try {
+            doEnqueue(Long.valueOf(parts[2]), "d".equals(parts[1]), true);
+        } catch (NumberFormatException ignored) {
+            // not an event id
+        }
+    }
+
+    private void enqueue(Long id, boolean delete) {
+        if (id == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEnqueue(id, delete, false);
+                    broadcast(id, delete);
+                }
+            });
+        } else {
+            doEnqueue(id, delete, false);
+            broadcast(id, delete);
+        }
+    }
+
+    private void doEnqueue(Long id, boolean delete, boolean localOnly) {
+        long now = System.currentTimeMillis();
+        // keep the oldest enqueue time so lag covers the whole wait, and the latest operation
+        pending.merge(id, new Pending(delete, localOnly, now, 0),
+                (old, latest) -> new Pending(latest.delete(), old.localOnly() && latest.localOnly(), old.enqueuedAt(), 0));
+        if (pending.size() >= batchSize && flushQueued.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    flushQueued.set(false);
+                    flushQuietly();
+                });
+            } catch (Exception e) {
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    private void enqueueAll(List<Long> ids) {
+        for (Long id : ids) {
+            doEnqueue(id, false, false);
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (Long id : ids) {
+                    redis.publish(CHANGES_CHANNEL, origin + "|i|" + id);
+                }
+                return null;
+            });
+        } catch (Exception ignored) {
+            // other replicas' local indexes catch up on their next rebuild
+        }
+    }
+
+    private void broadcast(Long id, boolean delete) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANGES_CHANNEL, origin + "|" + (delete ? "d" : "i") + "|" + id);
+        } catch (Exception ignored) {
+            // other replicas' local indexes catch up on their next rebuild
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            while (flush() >= batchSize) {
+                // a full batch means more may be waiting
+            }
+        } catch (Exception ignored) {
+            // retried on the next tick
+        }
+    }
+
+    /**
+     * Reads from the primary: a replica may not have the rows just queued yet, and a missing row
+     * is taken for a delete.
+     */
+    private List<Event> loadEvents(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<ShardId, List<Long>> byShard = new HashMap<>();
+        ids.forEach(id -> byShard.computeIfAbsent(shardResolver.resolveByEventId(id), s -> new ArrayList<>()).add(id));
+        List<Event> events = new ArrayList<>(ids.size());
+        byShard.forEach((shard, shardIds) -> {
+            ShardContext.set(shard);
+            try {
+                events.addAll(ReadRouting.onPrimary(() -> eventRepository.findAllById(shardIds)));
+            } finally {
+                ShardContext.clear();
+            }
+        });
+        return events;
+    }
+
+    private void requeue(Map<Long, Pending> batch) {
+        batch.forEach((id, change) -> {
+            if (change.attempts() + 1 >= maxAttempts) {
+                count("dropped", 1);
+                return;
+            }
+            count("failed", 1);
+            // a newer change queued since the flush started takes precedence
+            pending.putIfAbsent(id, new Pending(change.delete(), change.localOnly(), change.enqueuedAt(), change.attempts() + 1));
+        });
+    }
+
+    private void count(String outcome, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        Counter.builder("event.search.index.changes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private record Pending(boolean delete, boolean localOnly, long enqueuedAt, int attempts) {
+    }
+}
@@ -0,0 +1,282 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over event titles, venues and categories of public events.
+ * <p>
+ * One trie per city plus one across all cities. Every node caches the {@code top-k} most
+ * popular suggestions below it, so a lookup is a walk of the prefix followed by a copy of that
+ * list. Titles are also indexed from each of their first words, so "jazz" finds "Blue Note Jazz
+ * Night". Keys are capped at {@link #MAX_KEY_LENGTH} characters; longer prefixes are matched on
+ * the capped node and filtered.
+ * <p>
+ * Kept current as a replica-local {@link SearchIndexer} sink of {@link SearchIndexingPipeline}.
+ */
+@Component
+public class SuggestionIndex implements SearchIndexer {
+
+    static final int MAX_KEY_LENGTH = 32;
+    private static final int MAX_TITLE_WORD_STARTS = 6;
+    private static final String ALL_CITIES = "*";
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::text)
+            .thenComparingLong(Entry::eventId);
+
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> roots = new HashMap<>();
+    // event id -> entries it contributed, so updates and deletes can take them out again
+    private final Map<Long, List<Placed>> byEvent = new HashMap<>();
+    private final Timer lookups;
+    private volatile boolean ready;
+
+    public SuggestionIndex(MeterRegistry meterRegistry,
+                           @Value("${event.search.suggest.top-k:20}") int topK) {
+        this.topK = topK;
+        this.lookups = Timer.builder("event.search.suggest")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("event.search.suggest.events", this, SuggestionIndex::size).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public boolean replicaLocal() {
+        return true;
+    }
+
+    @Override
+    public void onBuildComplete() {
+        ready = true;
+    }
+
+    @Override
+    public void bulk(List<Event> upserts, Collection<Long> deletes) {
+        lock.writeLock().lock();
+        try {
+            upserts.forEach(this::upsert);
+            deletes.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular suggestions starting with {@code prefix}, within {@code city} if given.
+     * Identical texts (e.g. a venue shared by several events) are returned once.
+     */
+    public List<EventSuggestion> suggest(String prefix, String city, int limit) {
+        long started = System.nanoTime();
+        String key = normalize(prefix);
+        List<EventSuggestion> result = new ArrayList<>();
+        if (key.isEmpty() || limit <= 0) {
+            return result;
+        }
+        String cityKey = city != null && !city.isBlank() ? city.trim().toLowerCase(Locale.ROOT) : ALL_CITIES;
+        String walk = key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+
+        lock.readLock().lock();
+        try {
+            Node node = roots.get(cityKey);
+            for (int i = 0; node != null && i < walk.length(); i++) {
+                node = node.children.get(walk.charAt(i));
+            }
+            if (node != null) {
+                Set<String> seen = new HashSet<>();
+                for (Entry entry : node.top) {
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                    boolean fits = walk.length() == key.length() || entry.key().startsWith(key);
+                    if (fits && seen.add(entry.type() + '\u0000' + entry.text())) {
+                        result.add(new EventSuggestion(entry.text(), entry.type(), entry.eventId(),
+                                entry.city(), entry.popularity()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lookups.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // callers hold the write lock
+    private void upsert(Event event) {
+        remove(event.getId());
+        if (!event.isPublicEvent()) {
+            return;
+        }
+        long popularity = event.getPopularityScore() != null ? event.getPopularityScore() : 0L;
+        String city = event.getCity();
+        String cityKey = city != null ? city.trim().toLowerCase(Locale.ROOT) : null;
+
+        Set<Entry> entries = new LinkedHashSet<>();
+        String title = normalize(event.getTitle());
+        if (!title.isEmpty()) {
+            String[] words = title.split(" ");
+            int offset = 0;
+            for (int i = 0; i < words.length && i < MAX_TITLE_WORD_STARTS; i++) {
+                entries.add(new Entry(title.substring(offset), event.getTitle(), "title", event.getId(), city, popularity));
+                offset += words[i].length() + 1;
+            }
+        }
+        addEntry(entries, event.getVenue(), "venue", event, popularity);
+        addEntry(entries, event.getCategory(), "category", event, popularity);
+
+        List<Placed> placed = new ArrayList<>();
+        for (Entry entry : entries) {
+            insert(ALL_CITIES, entry);
+            placed.add(new Placed(ALL_CITIES, entry));
+            if (cityKey != null && !cityKey.isEmpty()) {
+                insert(cityKey, entry);
+                placed.add(new Placed(cityKey, entry));
+            }
+        }
+        if (!placed.isEmpty()) {
+            byEvent.put(event.getId(), placed);
+        }
+    }
+
+    private static void addEntry(Set<Entry> entries, String text, String type, Event event, long popularity) {
+        String key = normalize(text);
+        if (!key.isEmpty()) {
+            entries.add(new Entry(key, text.trim(), type, event.getId(), event.getCity(), popularity));
+        }
+    }
+
+    private void insert(String root, Entry entry) {
+        Node node = roots.computeIfAbsent(root, r -> new Node());
+        String key = capped(entry.key());
+        offer(node, entry);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            offer(node, entry);
+        }
+        node.terminals.add(entry);
+    }
+
+    private void remove(Long eventId) {
+        List<Placed> placed = byEvent.remove(eventId);
+        if (placed == null) {
+            return;
+        }
+        for (Placed p : placed) {
+            Node root = roots.get(p.root());
+            if (root != null) {
+                removeFrom(root, capped(p.entry().key()), 0, p.entry());
+            }
+        }
+    }
+
+    /** Removes {@code entry} below {@code node}; returns true if {@code node} became empty. */
+    private boolean removeFrom(Node node, String key, int depth, Entry entry) {
+        if (depth == key.length()) {
+            node.terminals.remove(entry);
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child != null && removeFrom(child, key, depth + 1, entry)) {
+                node.children.remove(key.charAt(depth));
+            }
+        }
+        if (node.top.remove(entry)) {
+            // refill from what is still below this node
+            rebuildTop(node);
+        }
+        return node.terminals.isEmpty() && node.children.isEmpty();
+    }
+
+    private void offer(Node node, Entry entry) {
+        List<Entry> top = node.top;
+        if (top.size() >= topK && BY_POPULARITY.compare(entry, top.get(top.size() - 1)) >= 0) {
+            return;
+        }
+        int pos = 0;
+        while (pos < top.size() && BY_POPULARITY.compare(top.get(pos), entry) < 0) {
+            pos++;
+        }
+        top.add(pos, entry);
+        if (top.size() > topK) {
+            top.remove(top.size() - 1);
+        }
+    }
+
+    private void rebuildTop(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.terminals);
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        candidates.sort(BY_POPULARITY);
+        node.top.clear();
+        node.top.addAll(candidates.subList(0, Math.min(topK, candidates.size())));
+    }
+
+    private static String capped(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /** Lower-cases and collapses anything that is not a letter or digit into single spaces. */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length());
+        boolean space = false;
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                if (space && out.length() > 0) {
+                    out.append(' ');
+                }
+                out.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private final List<Entry> top = new ArrayList<>(4);
+    }
+
+    private record Entry(String key, String text, String type, long eventId, String city, long popularity) {
+    }
+
+    private record Placed(String root, Entry entry) {
+    }
+}
@@ -9,17 +9,28 @@ public class BloomFilter {
 
     private final BitSet bitSet = new BitSet(1_000_000);
     private final int size = 1_000_000;
+    private volatile boolean loaded;
 
     private int hash(String value, int seed) {
         return Math.abs(Objects.hash(value, seed)) % size;
     }
 
-    public void add(String value) {
+    // BitSet words are updated read-modify-write; concurrent adds could drop each other's bits
+    public synchronized void add(String value) {
         bitSet.set(hash(value, 1));
         bitSet.set(hash(value, 2));
         bitSet.set(hash(value, 3));
     }
 
+    /** Called once every stored id has been added; until then a miss says nothing about stored ids. */
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
     public boolean mightContain(String value) {
         return bitSet.get(hash(value, 1))
                 && bitSet.get(hash(value, 2))
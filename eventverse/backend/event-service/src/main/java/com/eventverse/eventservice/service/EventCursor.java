@@ -0,0 +1,57 @@
+package com.eventverse.eventservice.service;
+
+import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last event returned by a keyset listing: the sort it was produced for and
+ * the values of every sort column, with {@code id} as the final tie-breaker.
+ * Clients only see the opaque token from {@link #encode()}.
+ */
+public record EventCursor(String sort, long popularityScore, OffsetDateTime time, long id) {
+
+    private static final String VERSION = "v1";
+
+    public static EventCursor after(String sort, EventResponse last) {
+        long popularity = last.getPopularityScore() != null ? last.getPopularityScore() : 0L;
+        return new EventCursor(sort, popularity, last.getTime(), last.getId());
+    }
+
+    public String encode() {
+        Instant instant = time.toInstant();
+        String raw = String.join(":", VERSION, sort, Long.toString(popularityScore),
+                Long.toString(instant.getEpochSecond()), Integer.toString(instant.getNano()), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException if the token is malformed or was issued for another sort
+     */
+    public static EventCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Unsupported cursor");
+            }
+            if (!parts[1].equals(expectedSort)) {
+                throw new InvalidCursorException("Cursor was issued for sort " + parts[1]);
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[3]), Integer.parseInt(parts[4]));
+            return new EventCursor(parts[1], Long.parseLong(parts[2]),
+                    OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException e) {
+            // also covers bad base64 and NumberFormatException
+            if (e instanceof InvalidCursorException ice) {
+                throw ice;
+            }
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.eventverse.eventservice.service;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventCreateRequest;
+import com.eventverse.eventservice.dto.EventImportResult;
+import com.eventverse.eventservice.mapper.EventMapper;
+import com.eventverse.eventservice.messaging.CapacityEventPublisher;
+import com.eventverse.eventservice.search.SearchIndexingPipeline;
+import com.eventverse.eventservice.service.cache.PopularEventsCache;
+import com.eventverse.eventservice.sharding.ShardContext;
+import com.eventverse.eventservice.sharding.ShardId;
+import com.eventverse.eventservice.sharding.ShardResolver;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of {@link EventCreateRequest}s from an NDJSON or CSV stream.
+ * <p>
+ * Rows are parsed and validated one at a time, so memory stays bounded by the batch size.
+ * Valid rows are grouped per shard and written {@code batch-size} at a time: ids for the whole
+ * batch come from the {@code events} id sequence in one query, which lets the insert go out as
+ * a single JDBC batch (the entity's IDENTITY id would force one round trip per row). Add
+ * {@code reWriteBatchedInserts=true} to the JDBC url to have the driver send multi-row inserts.
+ * If a batch fails, its rows are retried one by one so only the bad rows are reported.
+ * <p>
+ * Capacity messages, search index updates and bloom filter entries are issued per batch;
+ * cached listings are evicted once per city at the end.
+ */
+@Service
+public class EventImportService {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format of(MediaType contentType) {
+            if (contentType != null && contentType.isCompatibleWith(TEXT_CSV)) {
+                return CSV;
+            }
+            if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+    }
+
+    private static final String INSERT_SQL = """
+            INSERT INTO events (id, title, description, city, event_time, capacity, organizer_id, venue,
+                                category, image_url, is_public, price, latitude, longitude, version, popularity_score)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Validator validator;
+    private final EventMapper eventMapper;
+    private final ShardResolver shardResolver;
+    private final CapacityEventPublisher capacityEventPublisher;
+    private final SearchIndexingPipeline searchIndexingPipeline;
+    private final BloomFilter bloomFilter;
+    private final PopularEventsCache popularEventsCache;
+    private final int batchSize;
+    private final int maxErrors;
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    private volatile String idSequence;
+
+    public EventImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              EventMapper eventMapper,
+                              ShardResolver shardResolver,
+                              CapacityEventPublisher capacityEventPublisher,
+                              SearchIndexingPipeline searchIndexingPipeline,
+                              BloomFilter bloomFilter,
+                              PopularEventsCache popularEventsCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${event.import.batch-size:1000}") int batchSize,
+                              @Value("${event.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventMapper = eventMapper;
+        this.shardResolver = shardResolver;
+        this.capacityEventPublisher = capacityEventPublisher;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.bloomFilter = bloomFilter;
+        this.popularEventsCache = popularEventsCache;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.importedRows = Counter.builder("event.import.rows").tag("outcome", "imported").register(meterRegistry);
+        this.failedRows = Counter.builder("event.import.rows").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    public EventImportResult importEvents(InputStream body, Format format) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } finally {
+            // rows read before a broken stream are still imported
+            for (Map.Entry<ShardId, List<Row>> entry : run.pending.entrySet()) {
+                write(entry.getKey(), entry.getValue(), run);
+            }
+            for (String city : run.cities) {
+                popularEventsCache.evictFor(city, null);
+            }
+        }
+        run.result.setDurationMillis(System.currentTimeMillis() - started);
+        return run.result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            EventCreateRequest request;
+            try {
+                request = objectMapper.readValue(line, EventCreateRequest.class);
+            } catch (JsonProcessingException e) {
+                run.reject(row, "unreadable JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(row, request, run);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows = csvMapper.readerForMapOf(String.class)
+                .with(schema)
+                .readValues(reader)) {
+            long row = 0;
+            while (true) {
+                Map<String, String> values;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    values = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    // the tokenizer cannot resynchronize after a malformed record
+                    run.reject(row + 1, "unreadable CSV, import stopped: " + e.getOriginalMessage());
+                    break;
+                }
+                row++;
+                Map<String, String> fields = new HashMap<>();
+                values.forEach((column, value) -> {
+                    if (value != null && !value.isBlank()) {
+                        fields.put(column.trim(), value.trim());
+                    }
+                });
+                EventCreateRequest request;
+                try {
+                    request = objectMapper.convertValue(fields, EventCreateRequest.class);
+                } catch (IllegalArgumentException e) {
+                    run.reject(row, "invalid value: " + rootMessage(e));
+                    continue;
+                }
+                accept(row, request, run);
+            }
+        }
+    }
+
+    private void accept(long row, EventCreateRequest request, ImportRun run) {
+        Set<ConstraintViolation<EventCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty() || request.getOrganizerId() == null) {
+            List<String> problems = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (request.getOrganizerId() == null) {
+                problems.add("organizerId: is required for import");
+            }
+            problems.sort(null);
+            run.reject(row, String.join("; ", problems));
+            return;
+        }
+        Event event = eventMapper.toEntity(request);
+        if (event.getPrice() == null) {
+            event.setPrice(BigDecimal.ZERO);
+        }
+        event.setVersion(0L);
+        ShardId shard = shardResolver.resolveByCity(event.getCity());
+        List<Row> batch = run.pending.computeIfAbsent(shard, s -> new ArrayList<>(batchSize));
+        batch.add(new Row(row, event));
+        if (batch.size() >= batchSize) {
+            run.pending.remove(shard);
+            write(shard, batch, run);
+        }
+    }
+
+    private void write(ShardId shard, List<Row> rows, ImportRun run) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ShardContext.set(shard);
+        try {
+            try {
+                tx.executeWithoutResult(status -> insert(rows));
+                run.imported(rows);
+            } catch (RuntimeException batchFailure) {
+                // one bad row fails the whole JDBC batch; find it
+                for (Row row : rows) {
+                    try {
+                        tx.executeWithoutResult(status -> insert(List.of(row)));
+                        run.imported(List.of(row));
+                    } catch (RuntimeException e) {
+                        run.reject(row.number(), "not stored: " + rootMessage(e));
+                    }
+                }
+            }
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, idSequence(), rows.size());
+        List<Event> events = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Event event = rows.get(i).event();
+            event.setId(ids.get(i));
+            events.add(event);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setLong(1, e.getId());
+            ps.setString(2, e.getTitle());
+            ps.setString(3, e.getDescription());
+            ps.setString(4, e.getCity());
+            ps.setObject(5, e.getTime());
+            ps.setInt(6, e.getCapacity());
+            ps.setLong(7, e.getOrganizerId());
+            ps.setString(8, e.getVenue());
+            ps.setString(9, e.getCategory());
+            ps.setString(10, e.getImageUrl());
+            ps.setBoolean(11, e.isPublicEvent());
+            ps.setBigDecimal(12, e.getPrice());
+            ps.setObject(13, e.getLatitude(), Types.DOUBLE);
+            ps.setObject(14, e.getLongitude(), Types.DOUBLE);
+        });
+        // the capacity messages and the reindex act after commit; the bloom filter is filled now,
+        // so no read right after the commit is turned away. A rolled back batch only leaves
+        // false positives, which fall through to the database.
+        for (Event event : events) {
+            capacityEventPublisher.capacityChanged(event);
+            bloomFilter.add(String.valueOf(event.getId()));
+        }
+        searchIndexingPipeline.indexAll(ids);
+    }
+
+    private String idSequence() {
+        String sequence = idSequence;
+        if (sequence == null) {
+            sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence('events', 'id')", String.class);
+            idSequence = sequence;
+        }
+        return sequence;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private record Row(long number, Event event) {
+    }
+
+    private final class ImportRun {
+        final EventImportResult result = new EventImportResult();
+        final Map<ShardId, List<Row>> pending = new EnumMap<>(ShardId.class);
+        final Set<String> cities = new HashSet<>();
+
+        void imported(List<Row> rows) {
+            result.setImported(result.getImported() + rows.size());
+            result.setReceived(result.getReceived() + rows.size());
+            importedRows.increment(rows.size());
+            for (Row row : rows) {
+                cities.add(row.event().getCity().trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        void reject(long row, String message) {
+            result.setFailed(result.getFailed() + 1);
+            result.setReceived(result.getReceived() + 1);
+            failedRows.increment();
+            if (result.getErrors().size() < maxErrors) {
+                result.getErrors().add(new EventImportResult.RowError(row, message));
+            }
+        }
+    }
+}
@@ -1,55 +1,109 @@
 package com.eventverse.eventservice.service;
 import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.CachedEventPage;
+import com.eventverse.eventservice.dto.EventFacets;
 import com.eventverse.eventservice.dto.EventCreateRequest;
 import com.eventverse.eventservice.dto.EventFilterRequest;
 import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.dto.EventSlice;
+import com.eventverse.eventservice.dto.InventoryChangedEvent;
 import com.eventverse.eventservice.dto.SeatAvailabilityResponse;
+import com.eventverse.eventservice.exception.InvalidLocationException;
 import com.eventverse.eventservice.mapper.EventMapper;
+import com.eventverse.eventservice.messaging.CapacityEventPublisher;
+import com.eventverse.eventservice.replica.ReadRouting;
+import com.eventverse.eventservice.repository.EventCard;
 import com.eventverse.eventservice.repository.EventRepository;
 import com.eventverse.eventservice.search.EventSearchService;
+import com.eventverse.eventservice.search.FacetIndex;
+import com.eventverse.eventservice.search.GeoIndex;
+import com.eventverse.eventservice.search.LocalSearchIndex;
+import com.eventverse.eventservice.search.SearchIndexingPipeline;
+import com.eventverse.eventservice.service.cache.EventDetailsCache;
+import com.eventverse.eventservice.service.cache.PopularEventsCache;
+import com.eventverse.eventservice.service.cache.SingleFlight;
 import com.eventverse.eventservice.sharding.ShardContext;
 import com.eventverse.eventservice.sharding.ShardId;
 import com.eventverse.eventservice.sharding.ShardResolver;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 @Service
 public class EventService {
+    // rows a nearby search reads while the geo index is still building
+    private static final int NEARBY_FALLBACK_SCAN = 1000;
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
-    private final CacheManager cacheManager;
     private final ShardResolver shardResolver;
     private final BloomFilter bloomFilter;
     private final EventSearchService searchService;
+    private final SearchIndexingPipeline searchIndexingPipeline;
+    private final LocalSearchIndex localSearchIndex;
+    private final FacetIndex facetIndex;
+    private final GeoIndex geoIndex;
     private final TicketInventoryClient ticketInventoryClient;
+    private final CapacityEventPublisher capacityEventPublisher;
+    private final EventDetailsCache eventDetailsCache;
+    private final PopularEventsCache popularEventsCache;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTx;
+    private final String searchEngine;
+    private final String postgresTextSearchConfig;
 
     public EventService(EventRepository eventRepository,
                         EventMapper eventMapper,
-                        CacheManager cacheManager,
                         ShardResolver shardResolver,
                         BloomFilter bloomFilter,
                         EventSearchService searchService,
-                        TicketInventoryClient ticketInventoryClient) {
+                        SearchIndexingPipeline searchIndexingPipeline,
+                        LocalSearchIndex localSearchIndex,
+                        FacetIndex facetIndex,
+                        GeoIndex geoIndex,
+                        TicketInventoryClient ticketInventoryClient,
+                        CapacityEventPublisher capacityEventPublisher,
+                        EventDetailsCache eventDetailsCache,
+                        PopularEventsCache popularEventsCache,
+                        SingleFlight singleFlight,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${event.search.engine:elasticsearch}") String searchEngine,
+                        @Value("${event.search.postgres.config:english}") String postgresTextSearchConfig) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
-        this.cacheManager = cacheManager;
         this.shardResolver = shardResolver;
         this.bloomFilter = bloomFilter;
         this.searchService = searchService;
+        this.searchIndexingPipeline = searchIndexingPipeline;
+        this.localSearchIndex = localSearchIndex;
+        this.facetIndex = facetIndex;
+        this.geoIndex = geoIndex;
         this.ticketInventoryClient = ticketInventoryClient;
+        this.capacityEventPublisher = capacityEventPublisher;
+        this.eventDetailsCache = eventDetailsCache;
+        this.popularEventsCache = popularEventsCache;
+        this.singleFlight = singleFlight;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.searchEngine = searchEngine;
+        this.postgresTextSearchConfig = postgresTextSearchConfig;
     }
 
     @Transactional
-    @CacheEvict(value = {"popularEvents"}, allEntries = true)
     public EventResponse createEvent(EventCreateRequest req) {
         ShardId shard = shardResolver.resolveByCity(req.getCity());
         try {
@@ -59,14 +113,17 @@ public class EventService {
                 event.setPrice(BigDecimal.ZERO);
             }
             Event saved = eventRepository.save(event);
-            SeatAvailabilityResponse seatInfo = syncCapacity(saved);
-            saved = reconcileCapacity(saved, seatInfo);
+            // ticket-service creates the inventory from this after commit
+            capacityEventPublisher.capacityChanged(saved);
+            popularEventsCache.evictFor(saved.getCity(), saved.getTime());
             // populate bloom filter for fast existence checks
             bloomFilter.add(String.valueOf(saved.getId()));
-            // index into Elasticsearch
-            try { searchService.index(saved); } catch (Exception ignored) {}
+            // index into Elasticsearch after commit
+            searchIndexingPipeline.index(saved.getId());
             EventResponse response = eventMapper.toResponse(saved);
-            applySeatData(response, seatInfo);
+            // nothing can be sold before the event exists
+            response.setTotalSeats(saved.getCapacity());
+            response.setAvailableSeats(saved.getCapacity());
             return response;
         } finally {
             ShardContext.clear();
@@ -77,54 +134,103 @@ public class EventService {
     public EventResponse getEventById(Long id) {
         // Try to get from cache first, but handle deserialization errors gracefully
         ShardId shard = shardResolver.resolveByEventId(id);
-        try {
-            ShardContext.set(shard);
-            // Bloom filter: if it definitively doesn't contain the id, short-circuit
-            if (!bloomFilter.mightContain(String.valueOf(id))) {
-                throw new EntityNotFoundException("Event not found: " + id);
-            }
-            Cache cache = cacheManager.getCache("eventDetails");
-            if (cache != null) {
-                Cache.ValueWrapper wrapper = cache.get(id);
-                if (wrapper != null) {
-                    try {
-                        Object cached = wrapper.get();
-                        if (cached instanceof EventResponse) {
-                            EventResponse copied = copyEventResponse((EventResponse) cached);
-                            return attachSeatAvailability(copied);
-                        }
-                    } catch (Exception e) {
-                        // If deserialization fails (old cache format), evict and continue
-                        cache.evict(id);
-                    }
+        // Bloom filter miss (once the startup warm-up has loaded every stored id): the id was not
+        // stored at startup nor created or read here since, so neither cache can hold it. Other
+        // replicas' creates never reach this filter, so the primary decides, not a 404 from here;
+        // a hit there adds the id to the filter.
+        boolean cacheable = !bloomFilter.isLoaded() || bloomFilter.mightContain(String.valueOf(id));
+        if (cacheable) {
+            try {
+                ShardContext.set(shard);
+                // near cache (L1) first, then the shared Redis cache (L2)
+                EventResponse cached = eventDetailsCache.get(id, () -> refreshEventDetails(id));
+                if (cached != null) {
+                    return attachSeatAvailability(copyEventResponse(cached));
                 }
+            } catch (Exception e) {
+                // If cache access fails, just continue to database lookup
+            }
+            finally {
+                ShardContext.clear();
             }
-        } catch (Exception e) {
-            // If cache access fails, just continue to database lookup
-        }
-        finally {
-            ShardContext.clear();
         }
         
-        // Fall back to database lookup
-        Event event = eventRepository.findById(id)
+        // Fall back to database lookup; concurrent misses for the same id share one load
+        EventResponse baseResponse = singleFlight.load(
+                EventDetailsCache.CACHE_NAME,
+                EventDetailsCache.CACHE_NAME + ":" + id,
+                () -> eventDetailsCache.peek(id),
+                () -> loadEventDetails(id)
+        );
+        return attachSeatAvailability(copyEventResponse(baseResponse));
+    }
+
+    private EventResponse loadEventDetails(Long id) {
+        long started = System.currentTimeMillis();
+        // fills a shared cache right after write evictions; a lagging replica would re-cache the old row
+        Event event = ReadRouting.onPrimary(() -> eventRepository.findById(id))
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
         EventResponse baseResponse = eventMapper.toResponse(event);
         // ensure bloom filter is warmed for future checks
         bloomFilter.add(String.valueOf(id));
-        try { searchService.index(event); } catch (Exception ignored) {}
-        
+
         // Cache the result for future requests
         try {
-            Cache cache = cacheManager.getCache("eventDetails");
-            if (cache != null) {
-                cache.put(id, baseResponse);
-            }
+            eventDetailsCache.put(id, baseResponse, System.currentTimeMillis() - started);
         } catch (Exception e) {
             // If caching fails, just continue without caching
         }
-        
-        return attachSeatAvailability(baseResponse);
+        return baseResponse;
+    }
+
+    /** Background stale-while-revalidate reload; runs outside any request transaction. */
+    private void refreshEventDetails(Long id) {
+        readOnlyTx.executeWithoutResult(status -> {
+            ShardContext.set(shardResolver.resolveByEventId(id));
+            try {
+                loadEventDetails(id);
+            } finally {
+                ShardContext.clear();
+            }
+        });
+    }
+
+    /**
+     * Details of several events for a listing, in the order of {@code ids}; unknown ids are
+     * skipped. Cached entries come from one batched cache read, the rest from a single query
+     * that refills the cache, and seat availability from one ticket-service call.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventResponse> found = new HashMap<>();
+        eventDetailsCache.getAll(ids).forEach((id, cached) -> found.put(id, copyEventResponse(cached)));
+
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            long started = System.currentTimeMillis();
+            // fills the shared cache, so read the primary as loadEventDetails does
+            List<Event> loaded = ReadRouting.onPrimary(() -> eventRepository.findAllById(missing));
+            long perEvent = loaded.isEmpty() ? 0 : (System.currentTimeMillis() - started) / loaded.size();
+            for (Event event : loaded) {
+                EventResponse response = eventMapper.toResponse(event);
+                bloomFilter.add(String.valueOf(event.getId()));
+                try {
+                    eventDetailsCache.put(event.getId(), response, perEvent);
+                } catch (Exception ignored) {
+                    // serve uncached if Redis is unavailable
+                }
+                found.put(event.getId(), copyEventResponse(response));
+            }
+        }
+
+        List<EventResponse> events = ids.stream().map(found::get).filter(Objects::nonNull).toList();
+        Map<Long, SeatAvailabilityResponse> seats =
+                ticketInventoryClient.fetchAvailability(events.stream().map(EventResponse::getId).distinct().toList());
+        events.forEach(event -> applySeatData(event, seats.get(event.getId())));
+        return events;
     }
 
     @Transactional(readOnly = true)
@@ -136,12 +242,33 @@ public class EventService {
 
     @Transactional(readOnly = true)
     public Page<EventResponse> searchFullText(String query, String city, int page, int size) {
+        if ("postgres".equalsIgnoreCase(searchEngine)) {
+            // database-native primary engine; GIN-indexed and ranked, so no further fallback
+            String cityFilter = city != null && !city.isBlank() ? city : null;
+            return eventRepository.searchCardsFullText(postgresTextSearchConfig, query, cityFilter, PageRequest.of(page, size))
+                    .map(eventMapper::toResponse)
+                    .map(this::attachSeatAvailability);
+        }
         try {
             Page<EventResponse> es = searchService.search(query, city, page, size);
             // Fallback to DB if index is empty or not yet warmed
             if (!es.isEmpty()) return es.map(this::attachSeatAvailability);
         } catch (Exception ignored) {
-            // fall back to JPA search if ES not available
+            // fall back to the local index / JPA search if ES not available
+        }
+
+        // in-memory inverted index; only the matched rows are read, by primary key
+        if (localSearchIndex.isReady()) {
+            Page<Long> ids = localSearchIndex.search(query, city, page, size);
+            Map<Long, EventCard> byId = new HashMap<>();
+            eventRepository.findCardsById(ids.getContent()).forEach(card -> byId.put(card.id(), card));
+            List<EventResponse> content = ids.getContent().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(eventMapper::toResponse)
+                    .map(this::attachSeatAvailability)
+                    .toList();
+            return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "popularityScore").and(Sort.by("time")));
@@ -161,37 +288,218 @@ public class EventService {
             }
             return predicates;
         };
-        return eventRepository.findAll(spec, pageable)
+        return eventRepository.findCards(spec, pageable)
                 .map(eventMapper::toResponse)
                 .map(this::attachSeatAvailability);
     }
 
+    /**
+     * Category, city and date bucket counts for a search, from the in-memory bitmap indexes;
+     * no database query. A text query is matched through the local inverted index.
+     */
+    public EventFacets searchFacets(String query, String city, String category, String date) {
+        FacetIndex.DateBucket bucket = date != null && !date.isBlank() ? FacetIndex.DateBucket.fromKey(date) : null;
+        boolean hasQuery = query != null && !query.isBlank();
+        EventFacets facets = facetIndex.facets(hasQuery ? localSearchIndex.matches(query) : null, city, category, bucket);
+        if (hasQuery && !localSearchIndex.isReady()) {
+            facets.setReady(false);
+        }
+        return facets;
+    }
+
+    /**
+     * Public events within {@code radiusKm} of a point that start between {@code from} and
+     * {@code to}, nearest first, then soonest. Served from the in-memory {@link GeoIndex}; until
+     * it is built, candidates come from a bounding-box query on the coordinate columns.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> nearbyEvents(double lat, double lon, double radiusKm,
+                                            OffsetDateTime from, OffsetDateTime to, int limit) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new InvalidLocationException("lat must be in [-90, 90] and lon in [-180, 180]");
+        }
+        if (!(radiusKm > 0) || radiusKm > geoIndex.maxRadiusKm()) {
+            throw new InvalidLocationException("radiusKm must be in (0, " + geoIndex.maxRadiusKm() + "]");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidLocationException("toTime must not be before fromTime");
+        }
+        if (limit <= 0) {
+            throw new InvalidLocationException("limit must be positive");
+        }
+        List<GeoIndex.Hit> hits = geoIndex.isReady()
+                ? geoIndex.nearby(lat, lon, radiusKm, from.toInstant(), to.toInstant(), limit)
+                : nearbyFromDatabase(lat, lon, radiusKm, from, to, limit);
+
+        Map<Long, EventCard> byId = new HashMap<>();
+        eventRepository.findCardsById(hits.stream().map(GeoIndex.Hit::eventId).toList())
+                .forEach(card -> byId.put(card.id(), card));
+        List<EventResponse> result = new ArrayList<>(hits.size());
+        for (GeoIndex.Hit hit : hits) {
+            EventCard card = byId.get(hit.eventId());
+            if (card != null) {
+                EventResponse response = eventMapper.toResponse(card);
+                response.setDistanceKm(Math.round(hit.distanceKm() * 100) / 100.0);
+                result.add(attachSeatAvailability(response));
+            }
+        }
+        return result;
+    }
+
+    private List<GeoIndex.Hit> nearbyFromDatabase(double lat, double lon, double radiusKm,
+                                                  OffsetDateTime from, OffsetDateTime to, int limit) {
+        double latSpan = Math.toDegrees(radiusKm / GeoIndex.EARTH_RADIUS_KM);
+        double lonSpan = latSpan / Math.max(1e-6, Math.cos(Math.toRadians(Math.min(89.9, Math.abs(lat) + latSpan))));
+        Specification<Event> spec = (root, q, cb) -> {
+            var predicates = cb.conjunction();
+            predicates.getExpressions().add(cb.equal(root.get("publicEvent"), true));
+            predicates.getExpressions().add(cb.between(root.get("time"), from, to));
+            predicates.getExpressions().add(cb.between(root.get("latitude"), lat - latSpan, lat + latSpan));
+            // boxes crossing the antimeridian are only bounded by latitude
+            if (lon - lonSpan >= -180 && lon + lonSpan <= 180) {
+                predicates.getExpressions().add(cb.between(root.get("longitude"), lon - lonSpan, lon + lonSpan));
+            }
+            return predicates;
+        };
+        return eventRepository.findCards(spec, Sort.by("time"), NEARBY_FALLBACK_SCAN).stream()
+                .filter(card -> card.latitude() != null && card.longitude() != null)
+                .map(card -> new GeoIndex.Hit(card.id(),
+                        GeoIndex.distanceKm(lat, lon, card.latitude(), card.longitude()),
+                        card.time().toEpochSecond()))
+                .filter(hit -> hit.distanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(GeoIndex.Hit::distanceKm)
+                        .thenComparingLong(GeoIndex.Hit::epochSecond))
+                .limit(limit)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
-    @Cacheable(
-            value = "popularEvents",
-            key = "T(java.util.Objects).hash(#filter.city, #filter.fromTime, #filter.toTime, #filter.page, #filter.size)",
-            condition = "#filter.sort != null && #filter.sort.equalsIgnoreCase('POPULAR')"
-    )
     public Page<EventResponse> searchEvents(EventFilterRequest filter) {
         ShardId shard = shardResolver.resolveByCity(filter.getCity());
         try {
             ShardContext.set(shard);
-            Pageable pageable = PageRequest.of(
-                    filter.getPage(),
-                    filter.getSize(),
-                    resolveSort(filter.getSort())
-            );
+            // only POPULAR listings are cached, tagged by city and time window
+            boolean popular = filter.getSort() != null && filter.getSort().equalsIgnoreCase("POPULAR");
+            if (popular) {
+                CachedEventPage cached = popularEventsCache.get(filter, () -> refreshPopularEvents(filter));
+                if (cached != null) {
+                    return cached.toPage().map(this::attachSeatAvailability);
+                }
+                // concurrent misses for the same listing share one query
+                CachedEventPage loaded = singleFlight.load(
+                        PopularEventsCache.CACHE_NAME,
+                        PopularEventsCache.CACHE_NAME + ":" + PopularEventsCache.keyFor(filter),
+                        () -> popularEventsCache.peek(filter),
+                        () -> loadPopularEvents(filter)
+                );
+                return loaded.toPage()
+                        .map(this::copyEventResponse)
+                        .map(this::attachSeatAvailability);
+            }
+            return queryEvents(filter).map(this::attachSeatAvailability);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    /**
+     * Keyset variant of {@link #searchEvents}: seeks past {@code cursor} on the sort columns
+     * (with {@code id} as tie-breaker) instead of using an offset, and fetches one extra row to
+     * learn whether another window exists instead of running a count query. {@code size} is
+     * clamped to [1, {@value #MAX_SCROLL_SIZE}].
+     */
+    @Transactional(readOnly = true)
+    public EventSlice scrollEvents(EventFilterRequest filter, String cursor) {
+        String sort = normalizeSort(filter.getSort());
+        EventCursor after = cursor != null && !cursor.isBlank() ? EventCursor.decode(cursor, sort) : null;
+        int size = filter.getSize() == null ? 20 : Math.max(1, Math.min(MAX_SCROLL_SIZE, filter.getSize()));
+        ShardId shard = shardResolver.resolveByCity(filter.getCity());
+        try {
+            ShardContext.set(shard);
             Specification<Event> spec = buildSpecification(filter);
-            Page<Event> page = eventRepository.findAll(spec, pageable);
-            return page.map(eventMapper::toResponse)
-                    .map(this::attachSeatAvailability);
+            if (after != null) {
+                spec = spec.and(seekAfter(sort, after));
+            }
+            List<EventCard> rows = eventRepository.findCards(
+                    spec, resolveSort(sort).and(Sort.by(Sort.Direction.ASC, "id")), size + 1);
+
+            boolean hasNext = rows.size() > size;
+            List<EventResponse> content = rows.stream()
+                    .limit(size)
+                    .map(eventMapper::toResponse)
+                    .map(this::attachSeatAvailability)
+                    .toList();
+            String next = hasNext ? EventCursor.after(sort, content.get(content.size() - 1)).encode() : null;
+            return new EventSlice(content, size, hasNext, next);
         } finally {
             ShardContext.clear();
         }
     }
 
+    private CachedEventPage loadPopularEvents(EventFilterRequest filter) {
+        long started = System.currentTimeMillis();
+        CachedEventPage page = CachedEventPage.of(ReadRouting.onPrimary(() -> queryEvents(filter)));
+        try {
+            popularEventsCache.put(filter, page, System.currentTimeMillis() - started);
+        } catch (Exception ignored) {
+            // serve uncached if Redis is unavailable
+        }
+        return page;
+    }
+
+    /**
+     * Startup warm-up: caches one page of the POPULAR listing for {@code city} (null for all
+     * cities) and the details of every event on it in both cache levels. Seat availability is
+     * not fetched; it is live data attached per request. Returns the ids on the page.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> warmPopularEvents(String city, int page, int size) {
+        EventFilterRequest filter = new EventFilterRequest();
+        filter.setCity(city);
+        filter.setSort("POPULAR");
+        filter.setPage(page);
+        filter.setSize(size);
+        ShardContext.set(shardResolver.resolveByCity(city));
+        try {
+            CachedEventPage cached = popularEventsCache.peek(filter);
+            CachedEventPage listing = cached != null ? cached : loadPopularEvents(filter);
+            List<Long> ids = listing.toPage().map(EventResponse::getId).getContent();
+
+            List<Long> missing = ids.stream().filter(id -> !eventDetailsCache.warm(id)).toList();
+            if (!missing.isEmpty()) {
+                for (Event event : ReadRouting.onPrimary(() -> eventRepository.findAllById(missing))) {
+                    bloomFilter.add(String.valueOf(event.getId()));
+                    eventDetailsCache.put(event.getId(), eventMapper.toResponse(event), 0);
+                }
+            }
+            return ids;
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private void refreshPopularEvents(EventFilterRequest filter) {
+        readOnlyTx.executeWithoutResult(status -> {
+            ShardContext.set(shardResolver.resolveByCity(filter.getCity()));
+            try {
+                loadPopularEvents(filter);
+            } finally {
+                ShardContext.clear();
+            }
+        });
+    }
+
+    private Page<EventResponse> queryEvents(EventFilterRequest filter) {
+        Pageable pageable = PageRequest.of(
+                filter.getPage(),
+                filter.getSize(),
+                resolveSort(filter.getSort())
+        );
+        Specification<Event> spec = buildSpecification(filter);
+        return eventRepository.findCards(spec, pageable).map(eventMapper::toResponse);
+    }
+
     @Transactional
-    @CacheEvict(value = {"popularEvents"}, allEntries = true)
     public EventResponse updateEvent(Long id, EventCreateRequest req, Long userId) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
@@ -200,6 +508,10 @@ public class EventService {
         if (!event.getOrganizerId().equals(userId)) {
             throw new IllegalStateException("You are not the organizer of this event");
         }
+        // listings the event was part of before the change
+        popularEventsCache.evictFor(event.getCity(), event.getTime());
+
+        Integer previousCapacity = event.getCapacity();
 
         // update fields
         event.setTitle(req.getTitle());
@@ -211,32 +523,31 @@ public class EventService {
         event.setCategory(req.getCategory());
         event.setPublicEvent(req.getPublicEvent());
         event.setImageUrl(req.getImageUrl());
+        event.setLatitude(req.getLatitude());
+        event.setLongitude(req.getLongitude());
         if (req.getPrice() != null) {
             event.setPrice(req.getPrice());
         }
 
         Event saved = eventRepository.save(event);
-        SeatAvailabilityResponse seatInfo = syncCapacity(saved);
-        saved = reconcileCapacity(saved, seatInfo);
-
-        // evict eventDetails cache entry for this id
-        Cache detailsCache = cacheManager.getCache("eventDetails");
-        if (detailsCache != null) {
-            detailsCache.evict(id);
+        if (!Objects.equals(previousCapacity, saved.getCapacity())) {
+            capacityEventPublisher.capacityChanged(saved);
         }
+        popularEventsCache.evictFor(saved.getCity(), saved.getTime());
+
+        // evict eventDetails cache entry for this id (L2 now, L1 on all replicas after commit)
+        eventDetailsCache.evict(id);
 
         // ensure bloom filter contains updated event id
         bloomFilter.add(String.valueOf(saved.getId()));
-        try { searchService.index(saved); } catch (Exception ignored) {}
+        searchIndexingPipeline.index(saved.getId());
 
-        EventResponse response = eventMapper.toResponse(saved);
-        applySeatData(response, seatInfo);
-        return response;
+        // seat availability is attached on the next read, once ticket-service has applied the change
+        return eventMapper.toResponse(saved);
     }
 
     // ---------- Admin (superuser) operations ----------
     @Transactional
-    @CacheEvict(value = {"popularEvents"}, allEntries = true)
     public EventResponse adminCreateEvent(EventCreateRequest req) {
         if (req.getOrganizerId() == null) {
             throw new IllegalArgumentException("organizerId is required for admin create");
@@ -245,10 +556,11 @@ public class EventService {
     }
 
     @Transactional
-    @CacheEvict(value = {"popularEvents"}, allEntries = true)
     public EventResponse adminUpdateEvent(Long id, EventCreateRequest req) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
+        popularEventsCache.evictFor(event.getCity(), event.getTime());
+        Integer previousCapacity = event.getCapacity();
 
         event.setTitle(req.getTitle());
         event.setDescription(req.getDescription());
@@ -258,6 +570,8 @@ public class EventService {
         event.setVenue(req.getVenue());
         event.setCategory(req.getCategory());
         event.setImageUrl(req.getImageUrl());
+        event.setLatitude(req.getLatitude());
+        event.setLongitude(req.getLongitude());
         if (req.getPublicEvent() != null) {
             event.setPublicEvent(req.getPublicEvent());
         }
@@ -269,21 +583,17 @@ public class EventService {
         }
 
         Event saved = eventRepository.save(event);
-        SeatAvailabilityResponse seatInfo = syncCapacity(saved);
-        saved = reconcileCapacity(saved, seatInfo);
-        Cache detailsCache = cacheManager.getCache("eventDetails");
-        if (detailsCache != null) {
-            detailsCache.evict(id);
+        if (!Objects.equals(previousCapacity, saved.getCapacity())) {
+            capacityEventPublisher.capacityChanged(saved);
         }
+        popularEventsCache.evictFor(saved.getCity(), saved.getTime());
+        eventDetailsCache.evict(id);
         bloomFilter.add(String.valueOf(saved.getId()));
-        try { searchService.index(saved); } catch (Exception ignored) {}
-        EventResponse response = eventMapper.toResponse(saved);
-        applySeatData(response, seatInfo);
-        return response;
+        searchIndexingPipeline.index(saved.getId());
+        return eventMapper.toResponse(saved);
     }
 
     @Transactional
-    @CacheEvict(value = {"popularEvents"}, allEntries = true)
     public void deleteEvent(Long id, Long userId) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
@@ -294,21 +604,11 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        popularEventsCache.evictFor(event.getCity(), event.getTime());
 
-        // evict eventDetails cache entry for this id
-        Cache detailsCache = cacheManager.getCache("eventDetails");
-        if (detailsCache != null) {
-            detailsCache.evict(id);
-        }
-        try { searchService.delete(id); } catch (Exception ignored) {}
-    }
-
-    private SeatAvailabilityResponse syncCapacity(Event event) {
-        try {
-            return ticketInventoryClient.syncCapacity(event.getId(), event.getCapacity());
-        } catch (Exception ignored) {
-            return null;
-        }
+        // evict eventDetails cache entry for this id (L2 now, L1 on all replicas after commit)
+        eventDetailsCache.evict(id);
+        searchIndexingPipeline.delete(id);
     }
 
     private EventResponse applySeatData(EventResponse response, SeatAvailabilityResponse seatInfo) {
@@ -319,15 +619,34 @@ public class EventService {
         return response;
     }
 
-    private Event reconcileCapacity(Event saved, SeatAvailabilityResponse seatInfo) {
-        if (saved == null || seatInfo == null || seatInfo.getTotalSeats() == null) {
-            return saved;
+    /**
+     * Called for each inventory change ticket-service applied. For capacity changes whose total
+     * differs from the capacity of the exact event version applied, the event takes
+     * ticket-service's total; a newer local write wins and is synced on its own. Seat bookings
+     * only drop the rendered responses, whose ETags include the seat counts.
+     */
+    @Transactional
+    public void applyInventoryChange(InventoryChangedEvent change) {
+        if (change.getEventId() == null) {
+            return;
         }
-        if (!seatInfo.getTotalSeats().equals(saved.getCapacity())) {
-            saved.setCapacity(seatInfo.getTotalSeats());
-            return eventRepository.save(saved);
+        if (!change.isCapacityChange() || change.getTotalSeats() == null || change.getAppliedEventVersion() == null) {
+            eventDetailsCache.availabilityChanged(change.getEventId());
+            return;
+        }
+        ShardContext.set(shardResolver.resolveByEventId(change.getEventId()));
+        try {
+            int updated = eventRepository.reconcileCapacity(
+                    change.getEventId(), change.getTotalSeats(), change.getAppliedEventVersion());
+            if (updated > 0) {
+                eventDetailsCache.evict(change.getEventId());
+                searchIndexingPipeline.index(change.getEventId());
+            } else {
+                eventDetailsCache.availabilityChanged(change.getEventId());
+            }
+        } finally {
+            ShardContext.clear();
         }
-        return saved;
     }
 
     private EventResponse attachSeatAvailability(EventResponse response) {
@@ -359,6 +678,9 @@ public class EventService {
         copy.setImageUrl(source.getImageUrl());
         copy.setPopularityScore(source.getPopularityScore());
         copy.setPrice(source.getPrice());
+        copy.setVersion(source.getVersion());
+        copy.setLatitude(source.getLatitude());
+        copy.setLongitude(source.getLongitude());
         return copy;
     }
 
@@ -377,6 +699,34 @@ public class EventService {
         return Sort.by(Sort.Direction.ASC, "time");
     }
 
+    private String normalizeSort(String sort) {
+        if (sort != null && (sort.equalsIgnoreCase("POPULAR") || sort.equalsIgnoreCase("TIME_DESC"))) {
+            return sort.toUpperCase();
+        }
+        return "TIME_ASC";
+    }
+
+    /**
+     * Rows strictly after {@code cursor} in the order produced by {@link #resolveSort} plus id.
+     */
+    private Specification<Event> seekAfter(String sort, EventCursor cursor) {
+        return (root, query, cb) -> {
+            var time = root.<OffsetDateTime>get("time");
+            var id = root.<Long>get("id");
+            var timeThenId = "TIME_DESC".equals(sort)
+                    ? cb.or(cb.lessThan(time, cursor.time()),
+                            cb.and(cb.equal(time, cursor.time()), cb.greaterThan(id, cursor.id())))
+                    : cb.or(cb.greaterThan(time, cursor.time()),
+                            cb.and(cb.equal(time, cursor.time()), cb.greaterThan(id, cursor.id())));
+            if (!"POPULAR".equals(sort)) {
+                return timeThenId;
+            }
+            var popularity = root.<Long>get("popularityScore");
+            return cb.or(cb.lessThan(popularity, cursor.popularityScore()),
+                    cb.and(cb.equal(popularity, cursor.popularityScore()), timeThenId));
+        };
+    }
+
     private Specification<Event> buildSpecification(EventFilterRequest filter) {
         return (root, query, cb) -> {
             var predicates = cb.conjunction();
@@ -1,34 +1,64 @@
 package com.eventverse.eventservice.service;
 
 import com.eventverse.eventservice.dto.SeatAvailabilityResponse;
-import org.springframework.beans.factory.annotation.Value;
+import com.eventverse.eventservice.service.http.DownstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Seat inventory lookups against ticket-service. Calls are bulkheaded and circuit broken by
+ * {@code ticketServiceGuard}; when ticket-service is slow or down they return null, which
+ * callers treat as "availability unknown".
+ */
 @Component
 public class TicketInventoryClient {
+    private static final int MAX_BATCH = 100;
+
     private final RestTemplate restTemplate;
-    private final String ticketServiceBaseUrl;
+    private final DownstreamGuard guard;
 
-    public TicketInventoryClient(RestTemplate restTemplate,
-                                 @Value("${ticket-service.base-url}") String ticketServiceBaseUrl) {
+    public TicketInventoryClient(@Qualifier("ticketServiceRestTemplate") RestTemplate restTemplate,
+                                 @Qualifier("ticketServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
-        this.ticketServiceBaseUrl = ticketServiceBaseUrl;
+        this.guard = guard;
     }
 
     public SeatAvailabilityResponse fetchAvailability(Long eventId) {
-        String url = ticketServiceBaseUrl + "/tickets/" + eventId + "/availability";
-        return restTemplate.getForObject(url, SeatAvailabilityResponse.class);
+        // uri templates keep the http.client.requests uri tag per route, not per event
+        return guard.call(
+                () -> restTemplate.getForObject("/tickets/{eventId}/availability", SeatAvailabilityResponse.class, eventId),
+                failure -> null);
     }
 
-    public SeatAvailabilityResponse syncCapacity(Long eventId, Integer totalSeats) {
-        if (totalSeats == null) {
-            return null;
+    /**
+     * Availability of several events, one call per 100, keyed by event id. Events
+     * ticket-service has no inventory for are absent; the map is empty when it is slow or down.
+     */
+    public Map<Long, SeatAvailabilityResponse> fetchAvailability(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        Map<Long, SeatAvailabilityResponse> byId = new HashMap<>();
+        // ticket-service answers at most MAX_BATCH ids per call
+        for (int from = 0; from < ids.size(); from += MAX_BATCH) {
+            String batch = ids.subList(from, Math.min(from + MAX_BATCH, ids.size())).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            SeatAvailabilityResponse[] found = guard.call(
+                    () -> restTemplate.getForObject("/tickets/availability?eventIds={ids}", SeatAvailabilityResponse[].class, batch),
+                    failure -> null);
+            if (found == null) {
+                return Map.of();
+            }
+            for (SeatAvailabilityResponse availability : found) {
+                byId.put(availability.getEventId(), availability);
+            }
         }
-        String url = ticketServiceBaseUrl + "/admin/inventory/" + eventId;
-        restTemplate.put(url, Map.of("totalSeats", totalSeats));
-        return fetchAvailability(eventId);
+        return byId;
     }
 }
@@ -0,0 +1,37 @@
+package com.eventverse.eventservice.service.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives eventDetails evictions broadcast by any event-service replica (including this one)
+ * and drops the matching near-cache entry. {@code seats:}-prefixed messages only drop the
+ * rendered response.
+ */
+@Component
+public class CacheInvalidationListener implements MessageListener {
+
+    private final EventDetailsCache eventDetailsCache;
+
+    public CacheInvalidationListener(EventDetailsCache eventDetailsCache) {
+        this.eventDetailsCache = eventDetailsCache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(EventDetailsCache.SEATS_PREFIX)) {
+                eventDetailsCache.onRemoteAvailabilityChange(
+                        Long.valueOf(body.substring(EventDetailsCache.SEATS_PREFIX.length()).trim()));
+                return;
+            }
+            eventDetailsCache.onRemoteInvalidation(Long.valueOf(body.trim()));
+        } catch (NumberFormatException ignored) {
+            // not an event id; nothing to invalidate
+        }
+    }
+}
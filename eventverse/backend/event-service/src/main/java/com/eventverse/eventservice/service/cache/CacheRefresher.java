@@ -0,0 +1,112 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background refresh for stale-while-revalidate cache entries.
+ * At most one refresh per key runs in this replica (in-memory set) and across replicas
+ * (short Redis lease {@code refresh:<key>}). Refreshes that cannot be queued are dropped;
+ * a later read will trigger them again.
+ */
+@Component
+public class CacheRefresher {
+
+    private static final String LEASE_PREFIX = "refresh:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final double beta;
+    private final Duration leaseTtl;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public CacheRefresher(StringRedisTemplate stringRedisTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${event.cache.refresh.beta:1.0}") double beta,
+                          @Value("${event.cache.refresh.threads:2}") int threads,
+                          @Value("${event.cache.refresh.lease-ms:5000}") long leaseMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.beta = beta;
+        this.leaseTtl = Duration.ofMillis(leaseMillis);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256), r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + threadIds.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Schedules {@code reload} if the envelope is past its soft TTL or wins the XFetch roll.
+     */
+    public void maybeRefresh(String name, String key, CacheEnvelope envelope, Runnable reload) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        if (envelope == null || envelope.shouldRefresh(System.currentTimeMillis(), beta, random)) {
+            refreshAsync(name, key, reload);
+        }
+    }
+
+    public void refreshAsync(String name, String key, Runnable reload) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    if (acquireLease(key)) {
+                        reload.run();
+                        count(name, "refreshed");
+                    }
+                } catch (Exception e) {
+                    count(name, "failed");
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            count(name, "dropped");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean acquireLease(String key) {
+        try {
+            // not released on purpose: it also rate-limits refreshes of the same key
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + key, "1", leaseTtl));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    private void count(String name, String outcome) {
+        Counter.builder("event.cache.refresh")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
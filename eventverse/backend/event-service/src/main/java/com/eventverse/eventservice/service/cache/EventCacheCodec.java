@@ -0,0 +1,381 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.CachedEventPage;
+import com.eventverse.eventservice.dto.EventResponse;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary Redis serializer for the cached event DTOs.
+ * <p>
+ * Layout: {@code MAGIC, VERSION, type tag, record}. Records carry a 4 byte length prefix and
+ * event records start with a presence bitmask, so fields can only be appended: older readers
+ * skip trailing fields they do not know, newer readers leave fields missing from older records null.
+ * <p>
+ * Anything else, and every payload that does not start with {@link #MAGIC} (the JSON written
+ * before this codec existed), goes through the JSON {@code fallback}, so replicas on either
+ * format can share the cache during a rolling deploy.
+ */
+public class EventCacheCodec implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xEC;
+    static final byte VERSION = 1;
+
+    private static final byte TYPE_EVENT = 1;
+    private static final byte TYPE_PAGE = 2;
+    private static final byte TYPE_ENVELOPE = 3;
+
+    private final RedisSerializer<Object> fallback;
+    private final boolean writeBinary;
+
+    /**
+     * @param writeBinary false keeps writing JSON while still reading both formats; use it for
+     *                    the first rollout so not yet upgraded replicas can read every entry
+     */
+    public EventCacheCodec(RedisSerializer<Object> fallback, boolean writeBinary) {
+        this.fallback = fallback;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeBinary || !supports(value)) {
+            return fallback.serialize(value);
+        }
+        Writer out = new Writer();
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeTyped(out, value);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] > VERSION) {
+            throw new SerializationException("Unsupported cache format version " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+        try {
+            Reader in = new Reader(bytes, 2);
+            return readTyped(in);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Corrupt binary cache entry", e);
+        }
+    }
+
+    private static boolean supports(Object value) {
+        if (value instanceof CacheEnvelope envelope) {
+            return envelope.getValue() instanceof EventResponse || envelope.getValue() instanceof CachedEventPage;
+        }
+        return value instanceof EventResponse || value instanceof CachedEventPage;
+    }
+
+    // ---------- encoding ----------
+
+    private static void writeTyped(Writer out, Object value) {
+        if (value instanceof EventResponse event) {
+            out.write(TYPE_EVENT);
+            writeEvent(out, event);
+        } else if (value instanceof CachedEventPage page) {
+            out.write(TYPE_PAGE);
+            writePage(out, page);
+        } else if (value instanceof CacheEnvelope envelope) {
+            out.write(TYPE_ENVELOPE);
+            int mark = out.beginRecord();
+            out.varLong(envelope.getCreatedAt());
+            out.varLong(envelope.getSoftExpiresAt());
+            out.varLong(envelope.getComputeMillis());
+            writeTyped(out, envelope.getValue());
+            out.endRecord(mark);
+        } else {
+            throw new SerializationException("Unsupported type " + value.getClass());
+        }
+    }
+
+    private static void writeEvent(Writer out, EventResponse e) {
+        int mark = out.beginRecord();
+        Object[] fields = {
+                e.getId(), e.getTitle(), e.getDescription(), e.getCity(), e.getTime(),
+                e.getCapacity(), e.getTotalSeats(), e.getAvailableSeats(), e.getOrganizerId(),
+                e.getVenue(), e.getCategory(), e.isPublicEvent(), e.getImageUrl(),
+                e.getPopularityScore(), e.getPrice(), e.getVersion(), e.getLatitude(), e.getLongitude()
+        };
+        long presence = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                presence |= 1L << i;
+            }
+        }
+        out.varLong(presence);
+        for (Object field : fields) {
+            if (field != null) {
+                out.value(field);
+            }
+        }
+        out.endRecord(mark);
+    }
+
+    private static void writePage(Writer out, CachedEventPage page) {
+        int mark = out.beginRecord();
+        out.varLong(page.getPage());
+        out.varLong(page.getSize());
+        out.varLong(page.getTotalElements());
+        List<EventResponse> content = page.getContent() != null ? page.getContent() : List.of();
+        out.varLong(content.size());
+        for (EventResponse event : content) {
+            writeEvent(out, event);
+        }
+        out.endRecord(mark);
+    }
+
+    // ---------- decoding ----------
+
+    private static Object readTyped(Reader in) {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_EVENT -> readEvent(in);
+            case TYPE_PAGE -> readPage(in);
+            case TYPE_ENVELOPE -> {
+                Reader rec = in.record();
+                CacheEnvelope envelope = new CacheEnvelope();
+                envelope.setCreatedAt(rec.varLong());
+                envelope.setSoftExpiresAt(rec.varLong());
+                envelope.setComputeMillis(rec.varLong());
+                envelope.setValue(readTyped(rec));
+                yield envelope;
+            }
+            default -> throw new SerializationException("Unknown cache record type " + type);
+        };
+    }
+
+    private static EventResponse readEvent(Reader in) {
+        Reader rec = in.record();
+        long presence = rec.varLong();
+        EventResponse e = new EventResponse();
+        if (has(presence, 0)) e.setId(rec.varLong());
+        if (has(presence, 1)) e.setTitle(rec.string());
+        if (has(presence, 2)) e.setDescription(rec.string());
+        if (has(presence, 3)) e.setCity(rec.string());
+        if (has(presence, 4)) e.setTime(rec.time());
+        if (has(presence, 5)) e.setCapacity((int) rec.varLong());
+        if (has(presence, 6)) e.setTotalSeats((int) rec.varLong());
+        if (has(presence, 7)) e.setAvailableSeats((int) rec.varLong());
+        if (has(presence, 8)) e.setOrganizerId(rec.varLong());
+        if (has(presence, 9)) e.setVenue(rec.string());
+        if (has(presence, 10)) e.setCategory(rec.string());
+        if (has(presence, 11)) e.setPublicEvent(rec.readByte() != 0);
+        if (has(presence, 12)) e.setImageUrl(rec.string());
+        if (has(presence, 13)) e.setPopularityScore(rec.varLong());
+        if (has(presence, 14)) e.setPrice(rec.decimal());
+        if (has(presence, 15)) e.setVersion(rec.varLong());
+        if (has(presence, 16)) e.setLatitude(rec.float64());
+        if (has(presence, 17)) e.setLongitude(rec.float64());
+        // fields appended by newer writers are skipped with the rest of the record
+        return e;
+    }
+
+    private static CachedEventPage readPage(Reader in) {
+        Reader rec = in.record();
+        CachedEventPage page = new CachedEventPage();
+        page.setPage((int) rec.varLong());
+        page.setSize((int) rec.varLong());
+        page.setTotalElements(rec.varLong());
+        int count = (int) rec.varLong();
+        List<EventResponse> content = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content.add(readEvent(rec));
+        }
+        page.setContent(content);
+        return page;
+    }
+
+    private static boolean has(long presence, int bit) {
+        return (presence & (1L << bit)) != 0;
+    }
+
+    // ---------- primitives ----------
+
+    /** Single growable buffer; record lengths are reserved up front and patched once known. */
+    private static final class Writer {
+        private byte[] buf = new byte[512];
+        private int size;
+
+        void write(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void varLong(long v) {
+            // zig-zag so small negative numbers stay small
+            long z = (v << 1) ^ (v >> 63);
+            ensure(10);
+            while ((z & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((z & 0x7F) | 0x80);
+                z >>>= 7;
+            }
+            buf[size++] = (byte) z;
+        }
+
+        void bytes(byte[] bytes) {
+            varLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        /** Reserves a 4 byte length prefix and returns its offset for {@link #endRecord}. */
+        int beginRecord() {
+            ensure(4);
+            size += 4;
+            return size - 4;
+        }
+
+        void endRecord(int mark) {
+            int len = size - mark - 4;
+            buf[mark] = (byte) (len >>> 24);
+            buf[mark + 1] = (byte) (len >>> 16);
+            buf[mark + 2] = (byte) (len >>> 8);
+            buf[mark + 3] = (byte) len;
+        }
+
+        void value(Object field) {
+            if (field instanceof Long l) {
+                varLong(l);
+            } else if (field instanceof Integer i) {
+                varLong(i);
+            } else if (field instanceof String s) {
+                bytes(s.getBytes(StandardCharsets.UTF_8));
+            } else if (field instanceof Boolean b) {
+                write(b ? 1 : 0);
+            } else if (field instanceof OffsetDateTime t) {
+                varLong(t.toEpochSecond());
+                varLong(t.getNano());
+                varLong(t.getOffset().getTotalSeconds());
+            } else if (field instanceof BigDecimal d) {
+                varLong(d.scale());
+                bytes(d.unscaledValue().toByteArray());
+            } else if (field instanceof Double d) {
+                long bits = Double.doubleToLongBits(d);
+                ensure(8);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    buf[size++] = (byte) (bits >>> shift);
+                }
+            } else {
+                throw new SerializationException("Unsupported field type " + field.getClass());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int pos;
+        private final int end;
+
+        Reader(byte[] bytes, int pos) {
+            this(bytes, pos, bytes.length);
+        }
+
+        private Reader(byte[] bytes, int pos, int end) {
+            this.bytes = bytes;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        byte readByte() {
+            if (pos >= end) {
+                throw new SerializationException("Truncated cache entry");
+            }
+            return bytes[pos++];
+        }
+
+        long varLong() {
+            long z = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = readByte();
+                z |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (z >>> 1) ^ -(z & 1);
+        }
+
+        String string() {
+            int len = (int) varLong();
+            checkAvailable(len);
+            String s = new String(bytes, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        OffsetDateTime time() {
+            long seconds = varLong();
+            int nanos = (int) varLong();
+            int offset = (int) varLong();
+            return OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), ZoneOffset.ofTotalSeconds(offset));
+        }
+
+        double float64() {
+            checkAvailable(8);
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | (bytes[pos++] & 0xFF);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        BigDecimal decimal() {
+            int scale = (int) varLong();
+            int len = (int) varLong();
+            checkAvailable(len);
+            byte[] unscaled = new byte[len];
+            System.arraycopy(bytes, pos, unscaled, 0, len);
+            pos += len;
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+
+        /** Returns a reader bounded to the next length-prefixed record and moves past it. */
+        Reader record() {
+            checkAvailable(4);
+            int len = ((bytes[pos] & 0xFF) << 24) | ((bytes[pos + 1] & 0xFF) << 16)
+                    | ((bytes[pos + 2] & 0xFF) << 8) | (bytes[pos + 3] & 0xFF);
+            pos += 4;
+            checkAvailable(len);
+            Reader rec = new Reader(bytes, pos, pos + len);
+            pos += len;
+            return rec;
+        }
+
+        private void checkAvailable(int len) {
+            if (len < 0 || pos + len > end) {
+                throw new SerializationException("Truncated cache entry");
+            }
+        }
+    }
+}
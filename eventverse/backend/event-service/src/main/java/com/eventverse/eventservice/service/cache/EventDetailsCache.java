@@ -0,0 +1,369 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.EventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Two-level cache for event details: a small in-process {@link NearCache} (L1) in front of the
+ * shared Redis {@code eventDetails} cache (L2).
+ * Evictions are broadcast over Redis pub/sub so every replica drops its L1 copy after commit.
+ * L2 entries are {@link CacheEnvelope}s: past their soft TTL they are still served while
+ * {@link CacheRefresher} reloads them in the background.
+ * The same broadcasts drop this event's {@link RenderedEventCache} entry.
+ * <p>
+ * Reads are counted by {@link HotKeyTracker}. Hot events are pinned in L1 and their L2 entry is
+ * copied to {@code replicas} extra keys ({@code <id>:r<n>}) when it is written; reads pick one of
+ * the copies at random, so in a Redis cluster the load of a viral event spreads over several nodes.
+ */
+@Component
+public class EventDetailsCache {
+
+    public static final String CACHE_NAME = "eventDetails";
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate:" + CACHE_NAME;
+    /** Prefix of broadcasts that only drop rendered responses; cached event details stay valid. */
+    public static final String SEATS_PREFIX = "seats:";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheRefresher cacheRefresher;
+    private final RenderedEventCache renderedEventCache;
+    private final HotKeyTracker hotKeyTracker;
+    private final int replicas;
+    private final NearCache<Long, EventResponse> nearCache;
+    private final long softTtlMillis;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public EventDetailsCache(CacheManager cacheManager,
+                             StringRedisTemplate stringRedisTemplate,
+                             CacheRefresher cacheRefresher,
+                             RenderedEventCache renderedEventCache,
+                             HotKeyTracker hotKeyTracker,
+                             MeterRegistry meterRegistry,
+                             @Value("${event.cache.near.max-bytes:16777216}") long maxBytes,
+                             @Value("${event.cache.near.ttl-ms:5000}") long ttlMillis,
+                             @Value("${event.cache.details.soft-ttl-ms:300000}") long softTtlMillis,
+                             @Value("${event.cache.hot-keys.replicas:4}") int replicas) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheRefresher = cacheRefresher;
+        this.renderedEventCache = renderedEventCache;
+        this.hotKeyTracker = hotKeyTracker;
+        this.replicas = replicas;
+        this.softTtlMillis = softTtlMillis;
+        this.nearCache = new NearCache<>(maxBytes, Duration.ofMillis(ttlMillis), EventDetailsCache::estimateBytes,
+                hotKeyTracker::isHot);
+
+        this.l1Hits = requests(meterRegistry, "l1", "hit");
+        this.l1Misses = requests(meterRegistry, "l1", "miss");
+        this.l2Hits = requests(meterRegistry, "l2", "hit");
+        this.l2Misses = requests(meterRegistry, "l2", "miss");
+        Gauge.builder("event.cache.near.size", nearCache, NearCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("event.cache.near.bytes", nearCache, NearCache::weight)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up L1, then L2 (promoting L2 hits into L1). An L2 hit that is stale, or wins the
+     * early-refresh roll, is returned as is and {@code reload} is scheduled in the background.
+     * Returns the shared cached instance: callers must copy before mutating.
+     */
+    public EventResponse get(Long id, Runnable reload) {
+        hotKeyTracker.record(id);
+        EventResponse local = nearCache.get(id);
+        if (local != null) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Object stored = readL2(cache, id);
+            CacheEnvelope envelope = stored instanceof CacheEnvelope e ? e : null;
+            EventResponse cached = unwrap(stored);
+            if (cached != null) {
+                l2Hits.increment();
+                nearCache.put(id, cached);
+                // entries without an envelope predate soft TTLs: refresh them right away
+                cacheRefresher.maybeRefresh(CACHE_NAME, CACHE_NAME + ":" + id, envelope, reload);
+                return cached;
+            }
+        } catch (Exception e) {
+            // If deserialization fails (old cache format), evict and continue
+            cache.evict(id);
+        }
+        l2Misses.increment();
+        return null;
+    }
+
+    /**
+     * Batch variant of {@link #get} for listings: L1 first, then every L1 miss in one Redis
+     * {@code MGET} (L2 hits are promoted into L1). Returns the cached entries by id; ids that
+     * are in neither level are absent. Listing reads do not count towards hot keys and do not
+     * trigger background refreshes. Returns shared instances: callers must copy before mutating.
+     */
+    public Map<Long, EventResponse> getAll(Collection<Long> ids) {
+        Map<Long, EventResponse> found = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            EventResponse local = nearCache.get(id);
+            if (local != null) {
+                l1Hits.increment();
+                found.put(id, local);
+            } else {
+                l1Misses.increment();
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+        List<Object> stored;
+        try {
+            stored = readL2(misses);
+        } catch (Exception e) {
+            // Redis unavailable: callers load the misses from the database
+            l2Misses.increment(misses.size());
+            return found;
+        }
+        for (int i = 0; i < misses.size(); i++) {
+            EventResponse cached = unwrap(stored.get(i));
+            if (cached != null) {
+                l2Hits.increment();
+                nearCache.put(misses.get(i), cached);
+                found.put(misses.get(i), cached);
+            } else {
+                l2Misses.increment();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reads L2 without touching L1 or the hit/miss counters; used while waiting on another
+     * replica's in-flight load.
+     */
+    public EventResponse peek(Long id) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Cache.ValueWrapper wrapper = cache.get(id);
+            return wrapper != null ? unwrap(wrapper.get()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Startup warm-up: promotes the L2 entry into L1 without counting a request, so warming
+     * does not skew hit rates or hot keys. Returns false when L2 has no entry.
+     */
+    public boolean warm(Long id) {
+        EventResponse cached = peek(id);
+        if (cached == null) {
+            return false;
+        }
+        nearCache.put(id, cached);
+        return true;
+    }
+
+    /**
+     * @param computeMillis how long loading the value took; costlier values refresh earlier
+     */
+    public void put(Long id, EventResponse response, long computeMillis) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            CacheEnvelope envelope = new CacheEnvelope(response, System.currentTimeMillis(), softTtlMillis, computeMillis);
+            cache.put(id, envelope);
+            if (hotKeyTracker.isHot(id)) {
+                for (int r = 1; r <= replicas; r++) {
+                    cache.put(replicaKey(id, r), envelope);
+                }
+            }
+        }
+        nearCache.put(id, response);
+    }
+
+    /**
+     * Evicts the entry from L2 and, once the surrounding transaction commits, from L1 on this
+     * and every other replica. Deferring the L1 side avoids re-filling it from a not yet evicted L2.
+     */
+    public void evict(Long id) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(id);
+            // copies are dropped even if the key has cooled down since they were written
+            for (int r = 1; r <= replicas; r++) {
+                cache.evict(replicaKey(id, r));
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateEverywhere(id);
+                }
+            });
+        } else {
+            invalidateEverywhere(id);
+        }
+    }
+
+    /**
+     * Seat availability changed: drops the rendered response on every replica. The event details
+     * themselves carry no seat counts and stay cached.
+     */
+    public void availabilityChanged(Long id) {
+        renderedEventCache.invalidate(id);
+        broadcast(SEATS_PREFIX + id);
+    }
+
+    /** Called by {@link CacheInvalidationListener} for evictions published by any replica. */
+    public void onRemoteInvalidation(Long id) {
+        nearCache.invalidate(id);
+        renderedEventCache.invalidate(id);
+    }
+
+    /** Called by {@link CacheInvalidationListener} for {@link #availabilityChanged} broadcasts. */
+    public void onRemoteAvailabilityChange(Long id) {
+        renderedEventCache.invalidate(id);
+    }
+
+    private void invalidateEverywhere(Long id) {
+        nearCache.invalidate(id);
+        renderedEventCache.invalidate(id);
+        broadcast(String.valueOf(id));
+    }
+
+    private void broadcast(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception ignored) {
+            // other replicas fall back to the L1 TTL if the broadcast is lost
+        }
+    }
+
+    /**
+     * Reads the entry, from a random copy if the key is hot. A missing copy falls back to the
+     * primary key but is not written back: only {@link #put} writes copies, so a read racing an
+     * eviction cannot resurrect the old value under a copy key.
+     */
+    private Object readL2(Cache cache, Long id) {
+        int r = replicas > 0 && hotKeyTracker.isHot(id) ? ThreadLocalRandom.current().nextInt(replicas + 1) : 0;
+        if (r > 0) {
+            Cache.ValueWrapper copy = cache.get(replicaKey(id, r));
+            if (copy != null && copy.get() != null) {
+                return copy.get();
+            }
+        }
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null ? wrapper.get() : null;
+    }
+
+    /**
+     * Reads the primary keys of {@code ids} in one {@code MGET} when L2 is Redis; other cache
+     * implementations are read key by key. The result is aligned with {@code ids}.
+     */
+    private List<Object> readL2(List<Long> ids) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return Collections.nCopies(ids.size(), null);
+        }
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        List<Object> stored = new ArrayList<>(ids.size());
+        if (!(cache instanceof RedisCache redisCache)) {
+            for (Long id : ids) {
+                Cache.ValueWrapper wrapper = cache.get(id);
+                stored.add(wrapper != null ? wrapper.get() : null);
+            }
+            return stored;
+        }
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        String prefix = config.usePrefix() ? config.getKeyPrefixFor(CACHE_NAME) : "";
+        byte[][] keys = new byte[ids.size()][];
+        for (int i = 0; i < ids.size(); i++) {
+            keys[i] = toBytes(config.getKeySerializationPair().write(prefix + ids.get(i)));
+        }
+        List<byte[]> values = stringRedisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] value = values != null ? values.get(i) : null;
+            stored.add(value != null ? config.getValueSerializationPair().read(ByteBuffer.wrap(value)) : null);
+        }
+        return stored;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String replicaKey(Long id, int replica) {
+        return id + ":r" + replica;
+    }
+
+    private static EventResponse unwrap(Object stored) {
+        if (stored instanceof CacheEnvelope envelope) {
+            stored = envelope.getValue();
+        }
+        return stored instanceof EventResponse response ? response : null;
+    }
+
+    private static Counter requests(MeterRegistry registry, String level, String result) {
+        return Counter.builder("event.cache.requests")
+                .tag("cache", CACHE_NAME)
+                .tag("level", level)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static int estimateBytes(EventResponse r) {
+        int bytes = 160; // object headers, boxed numbers, time and price
+        bytes += chars(r.getTitle()) + chars(r.getDescription()) + chars(r.getCity())
+                + chars(r.getVenue()) + chars(r.getCategory()) + chars(r.getImageUrl());
+        return bytes;
+    }
+
+    private static int chars(String s) {
+        return s == null ? 0 : 40 + 2 * s.length();
+    }
+}
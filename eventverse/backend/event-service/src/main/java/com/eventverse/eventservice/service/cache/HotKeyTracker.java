@@ -0,0 +1,187 @@
+package com.eventverse.eventservice.service.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the most requested event ids with a Space-Saving sketch: {@code capacity} counters, and
+ * an unmonitored id takes over the smallest counter, inheriting its count as the error bound.
+ * <p>
+ * The sketch is split into {@code stripes} independent parts by event id, each with its own lock
+ * and {@code capacity / stripes} counters, so concurrent reads of different events rarely contend
+ * and a cold id only scans its own stripe. An id always lands in the same stripe, so any id with
+ * more than {@code stripeTotal / stripeCapacity} requests is still guaranteed to be monitored.
+ * <p>
+ * Every {@code period-ms} the hot set is recomputed from the sketch and the counts are halved,
+ * so it follows current traffic: the top {@code top-k} ids whose guaranteed count
+ * ({@code count - error}) is at least {@code min-share} of the requests seen. Lookups of the hot
+ * set are lock-free.
+ */
+@Component
+public class HotKeyTracker {
+
+    private final int topK;
+    private final double minShare;
+    private final long periodMillis;
+    private final LongSupplier clock;
+
+    private final Stripe[] stripes;
+    private final Object rotation = new Object();
+    private volatile long periodStarted;
+    private volatile List<HotKey> hotKeys = List.of();
+    private volatile Set<Long> hotIds = Set.of();
+
+    @Autowired
+    public HotKeyTracker(MeterRegistry meterRegistry,
+                         @Value("${event.cache.hot-keys.capacity:64}") int capacity,
+                         @Value("${event.cache.hot-keys.stripes:8}") int stripes,
+                         @Value("${event.cache.hot-keys.top-k:16}") int topK,
+                         @Value("${event.cache.hot-keys.min-share:0.01}") double minShare,
+                         @Value("${event.cache.hot-keys.period-ms:10000}") long periodMillis) {
+        this(capacity, stripes, topK, minShare, periodMillis, System::currentTimeMillis);
+        Gauge.builder("event.cache.hot-keys", this, t -> t.hotIds.size()).register(meterRegistry);
+    }
+
+    HotKeyTracker(int capacity, int stripes, int topK, double minShare, long periodMillis, LongSupplier clock) {
+        if (capacity < topK || topK <= 0) {
+            throw new IllegalArgumentException("capacity must be at least top-k, and top-k positive");
+        }
+        if (stripes <= 0 || stripes > capacity) {
+            throw new IllegalArgumentException("stripes must be positive and at most capacity");
+        }
+        this.topK = topK;
+        this.minShare = minShare;
+        this.periodMillis = periodMillis;
+        this.clock = clock;
+        this.periodStarted = clock.getAsLong();
+        this.stripes = new Stripe[stripes];
+        int perStripe = (capacity + stripes - 1) / stripes;
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    public void record(long eventId) {
+        long now = clock.getAsLong();
+        stripeOf(eventId).record(eventId);
+        if (now - periodStarted >= periodMillis) {
+            synchronized (rotation) {
+                if (now - periodStarted >= periodMillis) {
+                    rotate(now);
+                }
+            }
+        }
+    }
+
+    public boolean isHot(long eventId) {
+        return hotIds.contains(eventId);
+    }
+
+    /** The current hot keys, most requested first, as of the last period. */
+    public List<HotKey> hotKeys() {
+        return hotKeys;
+    }
+
+    private Stripe stripeOf(long eventId) {
+        // mix the bits so runs of sequential ids spread over all stripes
+        int h = Long.hashCode(eventId) * 0x9E3779B9;
+        return stripes[Math.floorMod(h ^ (h >>> 16), stripes.length)];
+    }
+
+    // callers hold the rotation lock; each stripe is locked only while it is read and halved
+    private void rotate(long now) {
+        long total = 0;
+        List<HotKey> candidates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.total;
+                stripe.counters.forEach((id, c) -> candidates.add(new HotKey(id, c.count, c.error)));
+                stripe.halve();
+            }
+        }
+        long threshold = Math.max(1, (long) Math.ceil(total * minShare));
+        List<HotKey> hot = candidates.stream()
+                .filter(k -> k.count() - k.error() >= threshold)
+                .sorted(Comparator.comparingLong(HotKey::count).reversed().thenComparingLong(HotKey::eventId))
+                .limit(topK)
+                .toList();
+        hotKeys = hot;
+        hotIds = hot.stream().map(HotKey::eventId).collect(Collectors.toUnmodifiableSet());
+        periodStarted = now;
+    }
+
+    /**
+     * @param count requests counted for the id in the last periods (halved once per period)
+     * @param error upper bound on how much of {@code count} belongs to ids it displaced
+     */
+    public record HotKey(long eventId, long count, long error) {
+    }
+
+    private static final class Stripe {
+        final int capacity;
+        final Map<Long, Counter> counters = new HashMap<>();
+        long total;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void record(long eventId) {
+            total++;
+            Counter counter = counters.get(eventId);
+            if (counter != null) {
+                counter.count++;
+            } else if (counters.size() < capacity) {
+                counters.put(eventId, new Counter(1, 0));
+            } else {
+                // capacity is small, so a scan beats maintaining a min-heap on every hit
+                Map.Entry<Long, Counter> min = null;
+                for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+                    if (min == null || entry.getValue().count < min.getValue().count) {
+                        min = entry;
+                    }
+                }
+                counters.remove(min.getKey());
+                long floor = min.getValue().count;
+                counters.put(eventId, new Counter(floor + 1, floor));
+            }
+        }
+
+        // halve everything so the next period is dominated by its own traffic; callers hold the monitor
+        void halve() {
+            Iterator<Counter> it = counters.values().iterator();
+            while (it.hasNext()) {
+                Counter counter = it.next();
+                counter.count >>= 1;
+                counter.error >>= 1;
+                if (counter.count == 0) {
+                    it.remove();
+                }
+            }
+            total >>= 1;
+        }
+    }
+
+    private static final class Counter {
+        long count;
+        long error;
+
+        Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
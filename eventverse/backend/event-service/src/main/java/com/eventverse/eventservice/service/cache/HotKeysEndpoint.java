@@ -0,0 +1,33 @@
+package com.eventverse.eventservice.service.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/hotkeys}: the event ids this replica currently treats as hot, most requested
+ * first. Exposed over HTTP when listed in {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeysEndpoint(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        List<HotKeyTracker.HotKey> hot = hotKeyTracker.hotKeys();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("count", hot.size());
+        body.put("keys", hot);
+        return body;
+    }
+}
@@ -0,0 +1,123 @@
+package com.eventverse.eventservice.service.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-process L1 cache bounded by an approximate byte weight rather than entry count,
+ * with a short TTL so entries missed by an invalidation still age out quickly.
+ * Thread-safe via coarse-grained synchronization; entries are small and operations O(1).
+ * Keys matching the {@code pinned} predicate (e.g. hot keys) are skipped by weight eviction, so
+ * a burst of cold entries cannot push them out; they still expire and can be invalidated.
+ */
+public class NearCache<K, V> {
+
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final ToIntFunction<V> weigher;
+    private final Predicate<K> pinned;
+    private final LinkedHashMap<K, Entry<V>> store = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight;
+
+    public NearCache(long maxWeight, Duration ttl, ToIntFunction<V> weigher) {
+        this(maxWeight, ttl, weigher, key -> false);
+    }
+
+    public NearCache(long maxWeight, Duration ttl, ToIntFunction<V> weigher, Predicate<K> pinned) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        Objects.requireNonNull(ttl, "ttl is required");
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttl.toMillis();
+        this.weigher = Objects.requireNonNull(weigher, "weigher is required");
+        this.pinned = Objects.requireNonNull(pinned, "pinned is required");
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        int weight = Math.max(1, weigher.applyAsInt(value));
+        if (weight > maxWeight) {
+            // never let a single oversized value flush the whole cache
+            remove(key);
+            return;
+        }
+        Entry<V> previous = store.put(key, new Entry<>(value, weight, System.currentTimeMillis() + ttlMillis));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+        evictToWeight();
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        store.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        evictExpired();
+        return store.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = store.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    private void evictToWeight() {
+        Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+        while (totalWeight > maxWeight && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            if (pinned.test(eldest.getKey())) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight();
+            it.remove();
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<V> entry = it.next().getValue();
+            if (entry.isExpired(now)) {
+                totalWeight -= entry.weight();
+                it.remove();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, int weight, long expiresAt) {
+        boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.CachedEventPage;
+import com.eventverse.eventservice.dto.EventFilterRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Redis {@code popularEvents} cache with a tag index so writes only evict listings the changed
+ * event could appear in, instead of flushing every city.
+ * <p>
+ * Keys are {@code city|fromTime|toTime|page|size}; each key is also added to the set
+ * {@code popularEvents:tag:city:<city>} (city {@code *} for listings without a city filter).
+ * Values are {@link CacheEnvelope}s refreshed in the background past their soft TTL.
+ */
+@Component
+public class PopularEventsCache {
+
+    public static final String CACHE_NAME = "popularEvents";
+    private static final String TAG_PREFIX = CACHE_NAME + ":tag:city:";
+    private static final String ANY_CITY = "*";
+    private static final String OPEN = "-";
+    // tag sets outlive the 10 minute cache entries they point to; stale members are harmless
+    private static final Duration TAG_TTL = Duration.ofMinutes(15);
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheRefresher cacheRefresher;
+    private final long softTtlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictedEntries;
+    private final Counter retainedEntries;
+
+    public PopularEventsCache(CacheManager cacheManager,
+                              StringRedisTemplate stringRedisTemplate,
+                              CacheRefresher cacheRefresher,
+                              MeterRegistry meterRegistry,
+                              @Value("${event.cache.popular.soft-ttl-ms:120000}") long softTtlMillis) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheRefresher = cacheRefresher;
+        this.softTtlMillis = softTtlMillis;
+        this.hits = Counter.builder("event.cache.requests")
+                .tag("cache", CACHE_NAME).tag("level", "l2").tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("event.cache.requests")
+                .tag("cache", CACHE_NAME).tag("level", "l2").tag("result", "miss")
+                .register(meterRegistry);
+        this.evictedEntries = Counter.builder("event.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("outcome", "evicted")
+                .register(meterRegistry);
+        this.retainedEntries = Counter.builder("event.cache.invalidations")
+                .tag("cache", CACHE_NAME).tag("outcome", "retained")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached listing, scheduling {@code reload} in the background when the entry is
+     * stale or wins the early-refresh roll.
+     */
+    public CachedEventPage get(EventFilterRequest filter, Runnable reload) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        String key = keyFor(filter);
+        try {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            Object stored = wrapper != null ? wrapper.get() : null;
+            CachedEventPage cached = unwrap(stored);
+            if (cached != null) {
+                hits.increment();
+                cacheRefresher.maybeRefresh(CACHE_NAME, CACHE_NAME + ":" + key,
+                        stored instanceof CacheEnvelope e ? e : null, reload);
+                return cached;
+            }
+        } catch (Exception e) {
+            // unreadable entry (format change): drop it and recompute
+            cache.evict(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /** Like {@link #get} but without counting towards the hit ratio. */
+    public CachedEventPage peek(EventFilterRequest filter) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Cache.ValueWrapper wrapper = cache.get(keyFor(filter));
+            return wrapper != null ? unwrap(wrapper.get()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public void put(EventFilterRequest filter, CachedEventPage page, long computeMillis) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        String key = keyFor(filter);
+        cache.put(key, new CacheEnvelope(page, System.currentTimeMillis(), softTtlMillis, computeMillis));
+        String tag = TAG_PREFIX + cityTag(filter.getCity());
+        stringRedisTemplate.opsForSet().add(tag, key);
+        stringRedisTemplate.expire(tag, TAG_TTL);
+    }
+
+    /**
+     * Evicts, after commit, every cached listing an event in {@code city} at {@code time} could be
+     * part of: listings for that city and city-less listings whose time window contains it.
+     */
+    public void evictFor(String city, OffsetDateTime time) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(city, time);
+                }
+            });
+        } else {
+            evictNow(city, time);
+        }
+    }
+
+    private void evictNow(String city, OffsetDateTime time) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        try {
+            evictTag(cache, TAG_PREFIX + cityTag(city), time);
+            evictTag(cache, TAG_PREFIX + ANY_CITY, time);
+        } catch (Exception ignored) {
+            // entries still expire through the cache TTL
+        }
+    }
+
+    private void evictTag(Cache cache, String tag, OffsetDateTime time) {
+        Set<String> keys = stringRedisTemplate.opsForSet().members(tag);
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        for (String key : keys) {
+            if (windowContains(key, time)) {
+                // immediate even on the transaction-aware decorator; we already run after commit
+                cache.evictIfPresent(key);
+                evicted.add(key);
+            } else {
+                retainedEntries.increment();
+            }
+        }
+        if (!evicted.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(tag, evicted.toArray());
+            evictedEntries.increment(evicted.size());
+        }
+    }
+
+    private static CachedEventPage unwrap(Object stored) {
+        if (stored instanceof CacheEnvelope envelope) {
+            stored = envelope.getValue();
+        }
+        return stored instanceof CachedEventPage page ? page : null;
+    }
+
+    public static String keyFor(EventFilterRequest filter) {
+        return cityTag(filter.getCity())
+                + "|" + bound(filter.getFromTime())
+                + "|" + bound(filter.getToTime())
+                + "|" + filter.getPage()
+                + "|" + filter.getSize();
+    }
+
+    static boolean windowContains(String key, OffsetDateTime time) {
+        if (time == null) {
+            return true;
+        }
+        String[] parts = key.split("\\|");
+        if (parts.length < 3) {
+            return true;
+        }
+        try {
+            if (!OPEN.equals(parts[1]) && time.isBefore(OffsetDateTime.parse(parts[1]))) {
+                return false;
+            }
+            return OPEN.equals(parts[2]) || !time.isAfter(OffsetDateTime.parse(parts[2]));
+        } catch (Exception e) {
+            // unparseable key: be conservative
+            return true;
+        }
+    }
+
+    private static String cityTag(String city) {
+        return city == null || city.isBlank() ? ANY_CITY : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String bound(OffsetDateTime time) {
+        return time == null ? OPEN : time.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.EventResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Per-replica cache of fully rendered {@code GET /events/{id}} bodies: the JSON bytes, a gzip
+ * copy and the ETag, so repeat reads skip the cache lookups, the seat availability call and
+ * Jackson entirely. Entries are dropped by {@link EventDetailsCache} on event writes and on seat
+ * changes reported by ticket-service; the short TTL covers a lost broadcast.
+ * Hits are counted by {@link HotKeyTracker} (misses are counted by the details lookup they fall
+ * through to) and hot events are pinned.
+ */
+@Component
+public class RenderedEventCache {
+
+    /** Bodies smaller than this are sent as is; gzip framing would eat most of the saving. */
+    static final int MIN_GZIP_BYTES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final HotKeyTracker hotKeyTracker;
+    private final NearCache<Long, RenderedEvent> nearCache;
+    // bumped on every invalidation so a render racing with one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RenderedEventCache(ObjectMapper objectMapper,
+                              HotKeyTracker hotKeyTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${event.http.rendered.max-bytes:33554432}") long maxBytes,
+                              @Value("${event.http.rendered.ttl-ms:30000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.hotKeyTracker = hotKeyTracker;
+        this.nearCache = new NearCache<>(maxBytes, Duration.ofMillis(ttlMillis), RenderedEvent::weight,
+                hotKeyTracker::isHot);
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("event.http.rendered.bytes", nearCache, NearCache::weight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the rendered event, rendering {@code loader}'s response on a miss. Responses without
+     * known seat availability are rendered but not cached, so they are retried on the next read.
+     */
+    public RenderedEvent get(Long id, Supplier<EventResponse> loader) {
+        RenderedEvent cached = nearCache.get(id);
+        if (cached != null) {
+            hits.increment();
+            hotKeyTracker.record(id);
+            return cached;
+        }
+        misses.increment();
+        long generation = invalidations.get();
+        EventResponse response = loader.get();
+        RenderedEvent rendered = render(response);
+        if (response.getAvailableSeats() != null && invalidations.get() == generation) {
+            nearCache.put(id, rendered);
+        }
+        return rendered;
+    }
+
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        nearCache.invalidate(id);
+    }
+
+    RenderedEvent render(EventResponse response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render event " + response.getId(), e);
+        }
+        return new RenderedEvent(etag(response), json, gzip(json), response.getCity(), response.isPublicEvent());
+    }
+
+    /**
+     * Weak ETag over the event row version and the seat counts shown with it. Every replica
+     * derives the same tag for the same state, so a client can revalidate against any of them.
+     */
+    static String etag(EventResponse response) {
+        return "W/\"" + response.getId()
+                + "-" + response.getVersion()
+                + "-" + response.getAvailableSeats()
+                + "-" + response.getTotalSeats() + "\"";
+    }
+
+    private static byte[] gzip(byte[] json) {
+        if (json.length < MIN_GZIP_BYTES) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length < json.length ? compressed : null;
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("event.http.rendered.requests")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * @param gzip compressed {@code json}, or null when compression does not pay off
+     * @param city the event's city, kept so views can be counted towards its trending feed
+     */
+    public record RenderedEvent(String etag, byte[] json, byte[] gzip, String city, boolean publicEvent) {
+
+        /** True when {@code ifNoneMatch} lists this entry's tag or is {@code *}. */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                // If-None-Match uses weak comparison
+                if (tag.equals("*") || weak(tag).equals(weak(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int weight() {
+            return 64 + (etag.length() + (city != null ? city.length() : 0)) * 2
+                    + json.length + (gzip != null ? gzip.length : 0);
+        }
+
+        private static String weak(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.eventverse.eventservice.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache-miss loads for the same key.
+ * <p>
+ * Within a replica, callers for a key already being loaded wait on the in-flight future.
+ * Across replicas, the loader must hold a short Redis lease ({@code lease:<key>}); replicas
+ * that lose the lease poll the cache until the holder has filled it, and only load themselves
+ * if nothing shows up before the lease would have expired.
+ */
+@Component
+public class SingleFlight {
+
+    private static final String LEASE_PREFIX = "lease:";
+    private static final long POLL_INTERVAL_MS = 25;
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${event.cache.single-flight.lease-ms:2000}") long leaseMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtl = Duration.ofMillis(leaseMillis);
+    }
+
+    /**
+     * Returns the value for {@code key}, running {@code loader} at most once per key across the
+     * cluster while a load is in flight.
+     *
+     * @param name   metric tag for the cache being loaded
+     * @param probe  reads the shared cache; non-null once another replica finished loading
+     * @param loader loads from the source of truth and fills the cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, String key, Supplier<T> probe, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            T shared = (T) await(existing);
+            count(name, "coalesced");
+            return shared;
+        }
+        try {
+            T value = leadLoad(name, key, probe, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T leadLoad(String name, String key, Supplier<T> probe, Supplier<T> loader) {
+        String leaseKey = LEASE_PREFIX + key;
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, owner, leaseTtl);
+        } catch (Exception e) {
+            // Redis unavailable: local coalescing still applies
+            acquired = Boolean.TRUE;
+            leaseKey = null;
+        }
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                // another replica may have filled the cache between our miss and the lease
+                T filled = probe.get();
+                if (filled != null) {
+                    count(name, "remote");
+                    return filled;
+                }
+                count(name, "loaded");
+                return loader.get();
+            } finally {
+                release(leaseKey);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + leaseTtl.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            T remote = probe.get();
+            if (remote != null) {
+                count(name, "remote");
+                return remote;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // lease holder did not deliver in time; load ourselves rather than fail the request
+        count(name, "lease-timeout");
+        return loader.get();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(leaseTtl.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight load", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for in-flight load", e);
+        }
+    }
+
+    private void release(String leaseKey) {
+        if (leaseKey == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), owner);
+        } catch (Exception ignored) {
+            // lease expires on its own
+        }
+    }
+
+    private void count(String name, String outcome) {
+        Counter.builder("event.cache.single-flight")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,180 @@
+package com.eventverse.eventservice.service.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead and circuit breaker around calls to one downstream service.
+ * <p>
+ * At most {@code maxConcurrent} calls run at once; further callers get the fallback immediately
+ * instead of waiting on a slow downstream, so request threads are never parked behind it.
+ * The breaker opens when at least {@code failureRatePercent} of the last {@code window} calls
+ * failed (once {@code window} calls were seen), answers with the fallback for {@code openFor},
+ * then lets a single probe call through: success closes it, failure opens it again.
+ * <p>
+ * A response with a status below 500 (say a 404 for an unknown id) is the caller's problem, not
+ * the downstream's: it gets the fallback but counts as a healthy call. Server errors, I/O errors,
+ * timeouts and anything else thrown count as failures.
+ */
+public class DownstreamGuard {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String target;
+    private final Semaphore permits;
+    private final int failureRatePercent;
+    private final Duration openFor;
+    private final LongSupplier clock;
+
+    // ring buffer of the last window outcomes, guarded by this
+    private final boolean[] failures;
+    private int next;
+    private int recorded;
+    private int failed;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    private final Counter successes;
+    private final Counter errors;
+    private final Counter clientErrors;
+    private final Counter rejected;
+    private final Counter shortCircuited;
+
+    public DownstreamGuard(String target, int maxConcurrent, int window, int failureRatePercent,
+                           Duration openFor, MeterRegistry meterRegistry) {
+        this(target, maxConcurrent, window, failureRatePercent, openFor, meterRegistry, System::nanoTime);
+    }
+
+    DownstreamGuard(String target, int maxConcurrent, int window, int failureRatePercent,
+                    Duration openFor, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.target = target;
+        this.permits = new Semaphore(maxConcurrent);
+        this.failures = new boolean[window];
+        this.failureRatePercent = failureRatePercent;
+        this.openFor = openFor;
+        this.clock = clock;
+        this.successes = outcome(meterRegistry, "success");
+        this.errors = outcome(meterRegistry, "failure");
+        this.clientErrors = outcome(meterRegistry, "client_error");
+        this.rejected = outcome(meterRegistry, "rejected");
+        this.shortCircuited = outcome(meterRegistry, "short_circuited");
+        Gauge.builder("http.client.guard.in.flight", this, g -> maxConcurrent - g.permits.availablePermits())
+                .tag("target", target)
+                .register(meterRegistry);
+        Gauge.builder("http.client.guard.open", this, g -> g.state() == State.CLOSED ? 0 : 1)
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code call} if the breaker and bulkhead allow it; otherwise, or if it throws,
+     * returns {@code fallback} applied to the reason.
+     */
+    public <T> T call(Supplier<T> call, Function<Exception, T> fallback) {
+        if (!allowCall()) {
+            shortCircuited.increment();
+            return fallback.apply(new DownstreamUnavailableException(target + " circuit is open"));
+        }
+        if (!permits.tryAcquire()) {
+            releaseProbe();
+            rejected.increment();
+            return fallback.apply(new DownstreamUnavailableException(target + " has too many calls in flight"));
+        }
+        try {
+            T result = call.get();
+            onResult(false);
+            successes.increment();
+            return result;
+        } catch (Exception e) {
+            boolean failure = isFailure(e);
+            onResult(failure);
+            (failure ? errors : clientErrors).increment();
+            return fallback.apply(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isFailure(Exception e) {
+        return !(e instanceof RestClientResponseException response) || response.getStatusCode().is5xxServerError();
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private synchronized boolean allowCall() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openFor.toNanos()) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return false;
+            }
+            probing = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    private synchronized void releaseProbe() {
+        probing = false;
+    }
+
+    private synchronized void onResult(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+            if (failure) {
+                open();
+            } else {
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        if (recorded == failures.length && failures[next]) {
+            failed--;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failed++;
+        }
+        next = (next + 1) % failures.length;
+        recorded = Math.min(recorded + 1, failures.length);
+        if (state == State.CLOSED && recorded == failures.length && failed * 100 >= failureRatePercent * recorded) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failed = 0;
+    }
+
+    private Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("http.client.guard.calls")
+                .tag("target", target)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.eventverse.eventservice.service.http;
+
+/**
+ * A downstream call was not attempted because its circuit is open or its bulkhead is full.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    public DownstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,295 @@
+package com.eventverse.eventservice.warmup;
+
+import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.feed.service.FeedService;
+import com.eventverse.eventservice.replica.ReplicaMonitor;
+import com.eventverse.eventservice.service.BloomFilter;
+import com.eventverse.eventservice.service.EventService;
+import com.eventverse.eventservice.service.TicketInventoryClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms a fresh replica before it takes traffic: opens the database and Redis connections,
+ * loads every stored event id into the {@link BloomFilter}, and caches the POPULAR listings and
+ * event details for the busiest cities plus their trending and upcoming feeds.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, so Spring Boot only reports readiness
+ * ({@code ACCEPTING_TRAFFIC}) once it returns. Cities are warmed in parallel on
+ * {@code threads} workers and the whole run is bounded by {@code timeout-ms}: past the deadline
+ * unfinished cache warming is cancelled and the replica goes ready with whatever was cached.
+ * Loading the bloom filter is allowed to finish in the background, since a filter miss only
+ * skips the cache lookups once it holds every id. Progress is reported by
+ * {@link WarmupHealthIndicator}.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String BUSIEST_CITIES_SQL = """
+            SELECT city FROM events
+            WHERE is_public AND event_time > now()
+            GROUP BY city
+            ORDER BY count(*) DESC
+            LIMIT ?
+            """;
+    private static final String IDS_AFTER_SQL = "SELECT id FROM events WHERE id > ? ORDER BY id LIMIT ?";
+
+    public enum Phase { PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED }
+
+    private final EventService eventService;
+    private final FeedService feedService;
+    private final BloomFilter bloomFilter;
+    private final TicketInventoryClient ticketInventoryClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ObjectProvider<ReplicaMonitor> replicaMonitor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Timer duration;
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final int threads;
+    private final int connections;
+    private final int maxCities;
+    private final int popularPerCity;
+    private final int pageSize;
+    private final int idBatchSize;
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile long tookMillis;
+    private final AtomicLong bloomIds = new AtomicLong();
+    private final AtomicInteger citiesWarmed = new AtomicInteger();
+    private final AtomicInteger eventsWarmed = new AtomicInteger();
+    private final AtomicInteger feedsWarmed = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public StartupWarmup(EventService eventService,
+                         FeedService feedService,
+                         BloomFilter bloomFilter,
+                         TicketInventoryClient ticketInventoryClient,
+                         JdbcTemplate jdbcTemplate,
+                         DataSource dataSource,
+                         ObjectProvider<ReplicaMonitor> replicaMonitor,
+                         StringRedisTemplate stringRedisTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${event.warmup.enabled:true}") boolean enabled,
+                         @Value("${event.warmup.timeout-ms:60000}") long timeoutMillis,
+                         @Value("${event.warmup.threads:4}") int threads,
+                         @Value("${event.warmup.connections:6}") int connections,
+                         @Value("${event.warmup.max-cities:50}") int maxCities,
+                         @Value("${event.warmup.popular-per-city:40}") int popularPerCity,
+                         @Value("${event.warmup.page-size:20}") int pageSize,
+                         @Value("${event.warmup.id-batch-size:10000}") int idBatchSize) {
+        this.eventService = eventService;
+        this.feedService = feedService;
+        this.bloomFilter = bloomFilter;
+        this.ticketInventoryClient = ticketInventoryClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.replicaMonitor = replicaMonitor;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.duration = Timer.builder("event.warmup").register(meterRegistry);
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.threads = Math.max(1, threads);
+        this.connections = connections;
+        this.maxCities = maxCities;
+        this.popularPerCity = popularPerCity;
+        // listings are cached per page, so warm the page size clients actually request
+        this.pageSize = Math.max(1, pageSize);
+        this.idBatchSize = Math.max(1, idBatchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            phase = Phase.DISABLED;
+            return;
+        }
+        phase = Phase.RUNNING;
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "event-warmup-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        boolean timedOut = false;
+        try {
+            Future<?> bloom = executor.submit(this::loadBloomFilter);
+            List<Future<?>> tasks = new ArrayList<>();
+            tasks.add(executor.submit(this::primeConnections));
+            tasks.add(executor.submit(() -> warmPopular(null)));
+            tasks.add(executor.submit(() -> warmFeed(FeedType.UPCOMING, null)));
+            for (String city : busiestCities()) {
+                tasks.add(executor.submit(() -> warmCity(city)));
+            }
+            tasks.add(bloom);
+
+            for (Future<?> task : tasks) {
+                long remaining = deadline - System.nanoTime();
+                try {
+                    task.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    timedOut = true;
+                    break;
+                } catch (ExecutionException e) {
+                    failures.incrementAndGet();
+                    log.warn("Startup warm-up step failed: {}", e.getCause().toString());
+                }
+            }
+            if (timedOut) {
+                tasks.stream().filter(task -> task != bloom).forEach(task -> task.cancel(true));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        } catch (RuntimeException e) {
+            // never keep the replica out of rotation because warming failed
+            failures.incrementAndGet();
+            log.warn("Startup warm-up failed: {}", e.toString());
+        } finally {
+            // lets a bloom filter load that outlived the deadline finish in the background
+            executor.shutdown();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        duration.record(elapsed, TimeUnit.NANOSECONDS);
+        tookMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        phase = timedOut ? Phase.TIMED_OUT : Phase.COMPLETED;
+        log.info("Startup warm-up {} in {} ms: {}", phase, tookMillis, details());
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("phase", phase);
+        details.put("tookMs", tookMillis);
+        details.put("bloomFilterIds", bloomIds.get());
+        details.put("bloomFilterLoaded", bloomFilter.isLoaded());
+        details.put("cities", citiesWarmed.get());
+        details.put("events", eventsWarmed.get());
+        details.put("feeds", feedsWarmed.get());
+        details.put("failures", failures.get());
+        return details;
+    }
+
+    /**
+     * Holds {@code connections} pooled connections at once so the pools open them now rather
+     * than on the first requests, and validates each; replicas get the same treatment.
+     */
+    void primeConnections() {
+        prime(dataSource);
+        ReplicaMonitor monitor = replicaMonitor.getIfAvailable();
+        if (monitor != null) {
+            monitor.replicas().forEach(replica -> prime(replica.dataSource()));
+        }
+        stringRedisTemplate.hasKey("warmup:ping");
+    }
+
+    private void prime(DataSource target) {
+        List<Connection> held = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = target.getConnection();
+                held.add(connection);
+                connection.isValid(2);
+            }
+        } catch (SQLException e) {
+            failures.incrementAndGet();
+            log.warn("Could not prime connection pool: {}", e.getMessage());
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // returned broken; the pool discards it
+                }
+            }
+        }
+    }
+
+    /** Streams every id in primary-key order, one batch at a time. */
+    void loadBloomFilter() {
+        long lastId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> ids = jdbcTemplate.queryForList(IDS_AFTER_SQL, Long.class, lastId, idBatchSize);
+            for (Long id : ids) {
+                bloomFilter.add(String.valueOf(id));
+            }
+            bloomIds.addAndGet(ids.size());
+            if (ids.size() < idBatchSize) {
+                bloomFilter.markLoaded();
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    List<String> busiestCities() {
+        return jdbcTemplate.queryForList(BUSIEST_CITIES_SQL, String.class, maxCities);
+    }
+
+    void warmCity(String city) {
+        warmPopular(city);
+        warmFeed(FeedType.TRENDING, city);
+        citiesWarmed.incrementAndGet();
+    }
+
+    private void warmPopular(String city) {
+        for (int page = 0; page * pageSize < popularPerCity; page++) {
+            List<Long> ids = eventService.warmPopularEvents(city, page, pageSize);
+            eventsWarmed.addAndGet(ids.size());
+            if (page == 0 && !ids.isEmpty()) {
+                primeTicketService(ids.get(0));
+            }
+            if (ids.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
+    // opens a keep-alive connection to ticket-service per worker; optional, so failures are ignored
+    private void primeTicketService(Long eventId) {
+        try {
+            ticketInventoryClient.fetchAvailability(eventId);
+        } catch (RuntimeException ignored) {
+            // ticket-service not up yet
+        }
+    }
+
+    private void warmFeed(FeedType type, String city) {
+        feedService.getFeed(type, null, city, 0, pageSize);
+        feedsWarmed.incrementAndGet();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eventverse.eventservice.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code warmup} health component: OUT_OF_SERVICE while {@link StartupWarmup} runs, UP once it
+ * has finished or given up at its deadline. Include it in the readiness group to keep a
+ * replica out of rotation until its caches are warm.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmup startupWarmup;
+
+    public WarmupHealthIndicator(StartupWarmup startupWarmup) {
+        this.startupWarmup = startupWarmup;
+    }
+
+    @Override
+    public Health health() {
+        StartupWarmup.Phase phase = startupWarmup.phase();
+        Health.Builder builder = phase == StartupWarmup.Phase.PENDING || phase == StartupWarmup.Phase.RUNNING
+                ? Health.outOfService()
+                : Health.up();
+        return builder.withDetails(startupWarmup.details()).build();
+    }
+}
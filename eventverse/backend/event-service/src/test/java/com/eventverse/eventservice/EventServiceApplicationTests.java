@@ -1,9 +1,11 @@
 package com.eventverse.eventservice;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
+@Tag("integration")
 class EventServiceApplicationTests {
 
 	@Test
@@ -0,0 +1,75 @@
+package com.eventverse.eventservice.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpClientConfigTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fast", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void resolvesRelativeUrisAgainstTheTargetAndReusesConnections() {
+        RestTemplate template = new HttpClientConfig().ticketServiceRestTemplate(
+                new RestTemplateBuilder(), registry, baseUrl, 300, 500, 4);
+
+        assertEquals("ok", template.getForObject("/fast", String.class));
+        assertEquals("ok", template.getForObject("/fast", String.class));
+        assertEquals(1.0, registry.get("http.client.pool.available").tag("target", "ticket-service").gauge().value());
+    }
+
+    @Test
+    void enforcesTheReadTimeout() {
+        RestTemplate template = new HttpClientConfig().ticketServiceRestTemplate(
+                new RestTemplateBuilder(), registry, baseUrl, 300, 200, 4);
+
+        long started = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> template.getForObject("/slow", String.class));
+        assertTrue(System.nanoTime() - started < 1_500_000_000L);
+    }
+}
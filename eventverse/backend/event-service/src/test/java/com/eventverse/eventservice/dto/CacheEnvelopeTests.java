@@ -0,0 +1,36 @@
+package com.eventverse.eventservice.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheEnvelopeTests {
+
+    @Test
+    void alwaysRefreshesPastSoftTtl() {
+        CacheEnvelope envelope = new CacheEnvelope("v", 0, 1_000, 10);
+
+        assertTrue(envelope.shouldRefresh(1_000, 1.0, 1.0));
+        assertTrue(envelope.shouldRefresh(5_000, 1.0, 1.0));
+    }
+
+    @Test
+    void freshEntriesRarelyRefreshEarly() {
+        CacheEnvelope envelope = new CacheEnvelope("v", 0, 60_000, 50);
+
+        // a typical roll well before expiry keeps serving the cached value
+        assertFalse(envelope.shouldRefresh(1_000, 1.0, 0.5));
+    }
+
+    @Test
+    void expensiveValuesRefreshEarlierThanCheapOnes() {
+        CacheEnvelope cheap = new CacheEnvelope("v", 0, 60_000, 10);
+        CacheEnvelope expensive = new CacheEnvelope("v", 0, 60_000, 2_000);
+        long now = 58_000; // 2s before soft expiry
+        double roll = 0.3;  // -ln(0.3) ~ 1.2
+
+        assertFalse(cheap.shouldRefresh(now, 1.0, roll));
+        assertTrue(expensive.shouldRefresh(now, 1.0, roll));
+    }
+}
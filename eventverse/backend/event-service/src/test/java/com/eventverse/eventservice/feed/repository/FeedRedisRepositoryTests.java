@@ -0,0 +1,64 @@
+package com.eventverse.eventservice.feed.repository;
+
+import com.eventverse.eventservice.feed.dto.EventScore;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedRedisRepositoryTests {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, Object> zset = mock(ZSetOperations.class);
+    private final FeedRedisRepository repository = new FeedRedisRepository(redisTemplate);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildsInATemporaryKeyAndRenamesItOverTheLiveOneInOnePipeline() {
+        when(redisTemplate.opsForZSet()).thenReturn(zset);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation ->
+                invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate));
+
+        repository.warm("feed:upcoming", List.of(new EventScore("1", 3.0), new EventScore("2", 1.0)));
+
+        ArgumentCaptor<String> building = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Set<ZSetOperations.TypedTuple<Object>>> tuples = ArgumentCaptor.captor();
+        InOrder order = inOrder(zset, redisTemplate);
+        order.verify(zset).add(building.capture(), tuples.capture());
+        order.verify(redisTemplate).expire(building.getValue(), FeedRedisRepository.TTL);
+        order.verify(redisTemplate).rename(building.getValue(), "feed:upcoming");
+        assertNotEquals("feed:upcoming", building.getValue());
+        assertTrue(building.getValue().startsWith("feed:upcoming:build:"));
+        assertEquals(2, tuples.getValue().size());
+        verify(zset, never()).add(eq("feed:upcoming"), any(), any(Double.class));
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leavesTheLiveKeyAloneWhenThereIsNothingToWarm() {
+        repository.warm("feed:upcoming", List.of());
+
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+}
@@ -0,0 +1,47 @@
+package com.eventverse.eventservice.feed.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoOccurrenceIndexTests {
+
+    @Test
+    void countsPairsBothWaysAsSharesOfTheEventsCoOccurrences() {
+        CoOccurrenceIndex index = new CoOccurrenceIndex(10, 10);
+        index.add(1, 2, 3.0);
+        index.add(1, 3, 1.0);
+        index.add(1, 1, 5.0);
+
+        assertEquals(Map.of(2L, 0.75, 3L, 0.25), index.neighbours(1));
+        assertEquals(Map.of(1L, 1.0), index.neighbours(2));
+        assertTrue(index.neighbours(4).isEmpty());
+    }
+
+    @Test
+    void replacesTheWeakestNeighbourOfAFullRowAndInheritsItsCount() {
+        CoOccurrenceIndex index = new CoOccurrenceIndex(2, 10);
+        index.add(1, 2, 3.0);
+        index.add(1, 3, 1.0);
+        index.add(1, 4, 1.0);
+
+        // 4 took over 3's count of 1
+        assertEquals(Map.of(2L, 0.6, 4L, 0.4), index.neighbours(1));
+    }
+
+    @Test
+    void dropsTheLeastRecentlyTouchedEventsOnceFull() {
+        CoOccurrenceIndex index = new CoOccurrenceIndex(10, 3);
+        index.add(1, 2, 1.0);
+        index.add(3, 2, 1.0);
+        index.neighbours(1);
+        index.add(4, 5, 1.0);
+
+        assertEquals(3, index.size());
+        assertTrue(index.neighbours(3).isEmpty());
+        assertEquals(Map.of(2L, 1.0), index.neighbours(1));
+    }
+}
@@ -0,0 +1,115 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.model.FeedType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedRankingWorkerTests {
+
+    private static final long BUCKET_MS = 60_000;
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, Object> zset = mock(ZSetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hash = mock(HashOperations.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, Object> set = mock(SetOperations.class);
+
+    private long now = 100 * BUCKET_MS + 5_000;
+    private final FeedRankingWorker worker = new FeedRankingWorker(redisTemplate, mock(StringRedisTemplate.class),
+            new SimpleMeterRegistry(), Duration.ofMinutes(2), Duration.ofHours(1), Duration.ofMillis(BUCKET_MS),
+            10, 0, 500, 0.01, () -> now);
+
+    FeedRankingWorkerTests() {
+        when(redisTemplate.opsForZSet()).thenReturn(zset);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hash);
+        when(redisTemplate.opsForSet()).thenReturn(set);
+    }
+
+    @Test
+    void addsABatchOfViewsToTheCurrentBucketInOnePipeline() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation ->
+                invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate));
+
+        worker.applyViews(Map.of(new ViewBuffer.View("Pune", 42), 5L, new ViewBuffer.View("Pune", 7), 1L));
+
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(zset).incrementScore("feed:views:city:Pune:100", "42", 5.0);
+        verify(zset).incrementScore("feed:views:city:Pune:100", "7", 1.0);
+        verify(redisTemplate).expire("feed:views:city:Pune:100", Duration.ofMinutes(10));
+        verify(set).add(FeedRankingWorker.CITIES_KEY, "Pune");
+    }
+
+    @Test
+    void foldsClosedBucketsWithDecayForTheirAge() {
+        // last run folded bucket 96; 97..99 have closed since
+        when(hash.get(FeedRankingWorker.FOLDED_KEY, "Pune")).thenReturn("96");
+        when(zset.unionAndStore(anyString(), anyCollection(), anyString())).thenReturn(3L);
+
+        worker.rebuildCity("Pune", 100);
+
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.captor();
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.captor();
+        verify(zset).unionAndStore(eq("feed:trending:decayed:city:Pune"), keys.capture(),
+                eq("feed:trending:decayed:city:Pune"), eq(Aggregate.SUM), weights.capture());
+        assertEquals(List.of("feed:views:city:Pune:97", "feed:views:city:Pune:98", "feed:views:city:Pune:99"),
+                List.copyOf(keys.getValue()));
+        // half-life of two buckets: the aggregate ages three buckets, then 2, 1 and 0 for the buckets
+        double d = Math.sqrt(0.5);
+        List<Double> expected = List.of(d * d * d, d * d, d, 1.0);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), weights.getValue().getWeight(i), 1e-9);
+        }
+        verify(zset).removeRange("feed:trending:decayed:city:Pune", 0, -501);
+        verify(hash).put(FeedRankingWorker.FOLDED_KEY, "Pune", "99");
+        verify(zset).unionAndStore("feed:trending:decayed:city:Pune", List.of("feed:views:city:Pune:100"),
+                "feed:trending:city:Pune");
+    }
+
+    @Test
+    void onlyPublishesWhenNoBucketClosedAndDropsCitiesWithoutViews() {
+        when(hash.get(FeedRankingWorker.FOLDED_KEY, "Pune")).thenReturn("99");
+        when(zset.unionAndStore(anyString(), anyCollection(), anyString())).thenReturn(0L);
+
+        worker.rebuildCity("Pune", 100);
+
+        verify(zset, never()).unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class), any(Weights.class));
+        verify(zset, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+        verify(set).remove(FeedRankingWorker.CITIES_KEY, "Pune");
+        verify(redisTemplate, never()).expire(eq("feed:trending:city:Pune"), anyLong(), any());
+    }
+
+    @Test
+    void decayHalvesScoresEveryHalfLife() {
+        assertEquals(0.5, Math.pow(worker.decayPerBucket(FeedType.TRENDING), 2), 1e-9);
+        assertEquals(0.5, Math.pow(worker.decayPerBucket(FeedType.RECOMMENDED), 60), 1e-9);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.dto.EventScore;
+import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.feed.repository.FeedRedisRepository;
+import com.eventverse.eventservice.service.EventService;
+import com.eventverse.eventservice.service.cache.SingleFlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedServiceTests {
+
+    private final FeedRedisRepository redisRepository = mock(FeedRedisRepository.class);
+    private final FeedSourceService feedSourceService = mock(FeedSourceService.class);
+    private final SingleFlight singleFlight = mock(SingleFlight.class);
+    private final FeedService feedService =
+            new FeedService(redisRepository, feedSourceService, singleFlight, mock(EventService.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readersOfDifferentPagesSharingAFlightEachGetTheirOwnPage() {
+        // the first caller leads the load; later callers for the key get the leader's result
+        Map<String, Object> flights = new HashMap<>();
+        when(singleFlight.load(anyString(), anyString(), any(), any())).thenAnswer(invocation ->
+                flights.computeIfAbsent(invocation.getArgument(1),
+                        key -> invocation.<Supplier<Object>>getArgument(3).get()));
+        when(redisRepository.fetch(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+        List<EventScore> feed = List.of(
+                new EventScore("1", 5.0), new EventScore("2", 4.0), new EventScore("3", 3.0),
+                new EventScore("4", 2.0), new EventScore("5", 1.0));
+        when(feedSourceService.fetchFromDb(FeedType.UPCOMING, null, null)).thenReturn(feed);
+
+        List<EventScore> first = feedService.getFeed(FeedType.UPCOMING, null, null, 0, 2).getEvents();
+        List<EventScore> second = feedService.getFeed(FeedType.UPCOMING, null, null, 1, 2).getEvents();
+        List<EventScore> past = feedService.getFeed(FeedType.UPCOMING, null, null, 3, 2).getEvents();
+        List<EventScore> far = feedService.getFeed(FeedType.UPCOMING, null, null, Integer.MAX_VALUE, 100).getEvents();
+
+        assertEquals(List.of("1", "2"), first.stream().map(EventScore::getEventId).toList());
+        assertEquals(List.of("3", "4"), second.stream().map(EventScore::getEventId).toList());
+        assertEquals(List.of(), past);
+        assertEquals(List.of(), far, "page * size past int range is still past the end");
+        verify(feedSourceService, times(1)).fetchFromDb(FeedType.UPCOMING, null, null);
+        verify(redisRepository).warm(eq("feed:upcoming"), eq(feed));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsTheRecommendedFallbackOutOfTheUsersKey() {
+        when(singleFlight.load(anyString(), anyString(), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<Object>>getArgument(3).get());
+        List<EventScore> trending = List.of(new EventScore("9", 840.0));
+        // a fallback list is already stored for Berlin; u1 has no recommendations yet
+        when(redisRepository.fetch(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+        when(redisRepository.fetch("feed:recommended:fallback:city:Berlin", 0, 10)).thenReturn(trending);
+
+        assertEquals(trending, feedService.getFeed(FeedType.RECOMMENDED, "u1", "Berlin", 0, 10).getEvents());
+
+        // a cold city loads the fallback into its own key
+        when(feedSourceService.fetchFromDb(FeedType.RECOMMENDED, "u1", "Paris")).thenReturn(trending);
+        feedService.getFeed(FeedType.RECOMMENDED, "u1", "Paris", 0, 10);
+
+        verify(redisRepository).warm("feed:recommended:fallback:city:Paris", trending);
+        verify(redisRepository, never()).warm(eq("feed:recommended:user:u1"), any());
+    }
+
+    @Test
+    void servesAnEmptyPagePastTheEndOfTheUsersRecommendations() {
+        when(redisRepository.fetch("feed:recommended:user:u1", 3, 10)).thenReturn(List.of());
+        when(redisRepository.exists("feed:recommended:user:u1")).thenReturn(true);
+
+        assertEquals(List.of(), feedService.getFeed(FeedType.RECOMMENDED, "u1", "Berlin", 3, 10).getEvents());
+        verify(feedSourceService, never()).fetchFromDb(any(), any(), any());
+    }
+}
@@ -0,0 +1,54 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.dto.EventScore;
+import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.repository.EventCard;
+import com.eventverse.eventservice.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedSourceServiceTests {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final FeedSourceService feedSourceService = new FeedSourceService(eventRepository);
+
+    @Test
+    void scoresTrendingCardsByPopularity() {
+        when(eventRepository.findCards(any(), any(Sort.class), anyInt()))
+                .thenReturn(List.of(card(1L, 5L), card(2L, 40L), card(3L, null)));
+
+        List<EventScore> scores = feedSourceService.fetchFromDb(FeedType.TRENDING, "u1", "Pune");
+
+        assertEquals(List.of("2", "1", "3"), scores.stream().map(EventScore::getEventId).toList());
+        assertEquals(40.0, scores.get(0).getScore());
+    }
+
+    @Test
+    void recommendedFallsBackToGlobalTrendingWhenTheCityHasNothing() {
+        when(eventRepository.findCards(any(), any(Sort.class), anyInt()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(card(9L, 1L)));
+
+        List<EventScore> scores = feedSourceService.fetchFromDb(FeedType.RECOMMENDED, "u1", "Nowhere");
+
+        assertEquals(List.of("9"), scores.stream().map(EventScore::getEventId).toList());
+        verify(eventRepository, times(2)).findCards(any(), any(Sort.class), anyInt());
+    }
+
+    private static EventCard card(Long id, Long popularity) {
+        return new EventCard(id, "Event " + id, "Pune", OffsetDateTime.now().plusDays(30), 100, 7L,
+                null, null, null, null, null, true, BigDecimal.ZERO, popularity);
+    }
+}
@@ -0,0 +1,128 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.dto.EventScore;
+import com.eventverse.eventservice.feed.repository.FeedRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecommendationWorkerTests {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, Object> zset = mock(ZSetOperations.class);
+    private final FeedRedisRepository feedRedisRepository = mock(FeedRedisRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Deque<List<Object>> pipelineResults = new ArrayDeque<>();
+
+    // ten half-lives since the epoch
+    private final long now = HALF_LIFE.toMillis() * 10;
+    private final RecommendationWorker worker = new RecommendationWorker(redisTemplate, feedRedisRepository, registry,
+            HALF_LIFE, 1.0, 0.2, new CoOccurrenceIndex(10, 100), 50, 100, 2, Duration.ofDays(30),
+            Duration.ofHours(24), 0, () -> now);
+
+    @SuppressWarnings("unchecked")
+    RecommendationWorkerTests() {
+        when(redisTemplate.opsForZSet()).thenReturn(zset);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<?>>getArgument(0).execute(redisTemplate);
+            List<Object> result = pipelineResults.poll();
+            return result != null ? result : List.of();
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recommendsWhatOthersWhoBookedTheSameEventBookedNext() {
+        // u1 booked event 1 just now and books 2
+        pipelineResults.add(List.of(history("1", 10.0)));
+        worker.recordBooking("u1", 2);
+        worker.refresh();
+
+        verify(zset).reverseRangeWithScores("feed:history:user:u1", 0, 49);
+        verify(zset).add("feed:history:user:u1", "2", 10.0);
+        verify(zset).removeRange("feed:history:user:u1", 0, -51);
+        verify(redisTemplate).expire("feed:history:user:u1", Duration.ofDays(30));
+
+        // u2 booked event 1 one half-life ago and views it again: nothing new to learn
+        pipelineResults.add(List.of(history("1", 9.0)));
+        worker.recordView("u2", 1);
+        worker.refresh();
+
+        verify(zset, never()).add(eq("feed:history:user:u2"), anyString(), anyDouble());
+        ArgumentCaptor<Map<String, List<EventScore>>> feeds = ArgumentCaptor.captor();
+        verify(feedRedisRepository, times(2)).warm(feeds.capture(), eq(Duration.ofHours(24)));
+        assertEquals(Map.of("feed:recommended:user:u1", List.of()), feeds.getAllValues().get(0));
+        assertEquals(Map.of("feed:recommended:user:u2", List.of(new EventScore("2", 0.5))),
+                feeds.getAllValues().get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mergesIntoTheStoredListInsteadOfReplacingIt() {
+        pipelineResults.add(List.of(history("1", 10.0)));
+        worker.recordBooking("u1", 2);
+        worker.refresh();
+
+        // another replica wrote u3's list an hour (one half-life) ago, from what it had learned
+        Set<ZSetOperations.TypedTuple<Object>> stored = Set.of(
+                new DefaultTypedTuple<>("2", 2.0), new DefaultTypedTuple<>("5", 0.8), new DefaultTypedTuple<>("7", 3.0));
+        pipelineResults.add(List.of(history("1", 10.0), stored, Duration.ofHours(23).toMillis()));
+        worker.recordView("u3", 7);
+        worker.refresh();
+
+        verify(zset).reverseRangeWithScores("feed:recommended:user:u3", 0, 99);
+        verify(redisTemplate).getExpire("feed:recommended:user:u3", TimeUnit.MILLISECONDS);
+        ArgumentCaptor<Map<String, List<EventScore>>> feeds = ArgumentCaptor.captor();
+        verify(feedRedisRepository, times(2)).warm(feeds.capture(), eq(Duration.ofHours(24)));
+        // 2 keeps the higher of its decayed stored score and this replica's 5/6; 5 is only known
+        // to the other replica; 7 is now in u3's history
+        assertEquals(Map.of("feed:recommended:user:u3", List.of(new EventScore("2", 1.0), new EventScore("5", 0.4))),
+                feeds.getAllValues().get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dropsInteractionsOnceTheQueueIsFull() {
+        worker.recordBooking("u1", 1);
+        worker.recordView("u1", 2);
+        worker.recordView("u1", 3);
+        worker.recordView(null, 4);
+
+        assertEquals(1.0, registry.get("event.feed.recommended.dropped").counter().count());
+        assertEquals(2.0, registry.get("event.feed.recommended.queued").gauge().value());
+        worker.refresh();
+        assertEquals(0.0, registry.get("event.feed.recommended.queued").gauge().value());
+        verify(feedRedisRepository).warm(any(Map.class), any(Duration.class));
+    }
+
+    private static Set<ZSetOperations.TypedTuple<Object>> history(String event, double score) {
+        return Set.of(new DefaultTypedTuple<>(event, score));
+    }
+}
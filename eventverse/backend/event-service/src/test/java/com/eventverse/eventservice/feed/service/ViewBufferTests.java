@@ -0,0 +1,75 @@
+package com.eventverse.eventservice.feed.service;
+
+import com.eventverse.eventservice.feed.service.ViewBuffer.View;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewBufferTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Map<View, Long>> batches = new ArrayList<>();
+
+    @Test
+    void addsUpConcurrentViewsIntoOneBatch() throws Exception {
+        ViewBuffer buffer = new ViewBuffer(batches::add, registry, 4, 1000, 0);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            threads.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    buffer.record(1L, "Pune");
+                    buffer.record(2L, "Mumbai");
+                }
+            });
+        }
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+
+        buffer.flush();
+        buffer.flush();
+
+        assertEquals(List.of(Map.of(new View("Pune", 1L), 8000L, new View("Mumbai", 2L), 8000L)), batches);
+    }
+
+    @Test
+    void dropsViewsOfNewKeysOnceFullButKeepsCountingPendingOnes() {
+        // one stripe holding at most two keys
+        ViewBuffer buffer = new ViewBuffer(batches::add, registry, 1, 2, 0);
+        buffer.record(1L, "Pune");
+        buffer.record(2L, "Pune");
+        buffer.record(3L, "Pune");
+        buffer.record(1L, "Pune");
+        buffer.record(4L, null);
+
+        buffer.flush();
+
+        assertEquals(Map.of(new View("Pune", 1L), 2L, new View("Pune", 2L), 1L), batches.get(0));
+        assertEquals(1.0, registry.get("event.feed.views.dropped").tag("reason", "full").counter().count());
+        buffer.record(3L, "Pune");
+        assertEquals(1, buffer.pendingKeys());
+    }
+
+    @Test
+    void countsAFailedFlushAsDropped() {
+        ViewBuffer buffer = new ViewBuffer(batch -> {
+            throw new IllegalStateException("redis down");
+        }, registry, 2, 10, 0);
+        buffer.record(1L, "Pune");
+        buffer.record(1L, "Pune");
+
+        assertThrows(IllegalStateException.class, buffer::flush);
+
+        assertEquals(2.0, registry.get("event.feed.views.dropped").tag("reason", "flush_failed").counter().count());
+        assertEquals(0, buffer.pendingKeys());
+    }
+}
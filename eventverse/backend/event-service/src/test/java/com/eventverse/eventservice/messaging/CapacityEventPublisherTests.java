@@ -0,0 +1,74 @@
+package com.eventverse.eventservice.messaging;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.CapacityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CapacityEventPublisherTests {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, CapacityChangedEvent> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CapacityEventPublisher publisher = new CapacityEventPublisher(kafkaTemplate, registry);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sendsOnlyAfterCommitWithTheCommittedVersion() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        TransactionSynchronizationManager.initSynchronization();
+        Event event = event(5L, 200, 1L);
+
+        publisher.capacityChanged(event);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+        // the commit flush bumps the version before afterCommit runs
+        event.setVersion(2L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<CapacityChangedEvent> sent = ArgumentCaptor.forClass(CapacityChangedEvent.class);
+        verify(kafkaTemplate).send(eq(CapacityEventPublisher.TOPIC), eq("5"), sent.capture());
+        assertEquals(200, sent.getValue().getCapacity());
+        assertEquals(2L, sent.getValue().getEventVersion());
+    }
+
+    @Test
+    void countsFailedSends() {
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        publisher.capacityChanged(event(5L, 200, 0L));
+
+        assertEquals(1.0, registry.counter("event.capacity.publish.failures").count());
+    }
+
+    private static Event event(Long id, int capacity, long version) {
+        Event event = new Event();
+        event.setId(id);
+        event.setCapacity(capacity);
+        event.setVersion(version);
+        return event;
+    }
+}
@@ -0,0 +1,107 @@
+package com.eventverse.eventservice.replica;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadYourWritesFilterTests {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    // key -> expiry, standing in for Redis
+    private final Map<String, Long> redis = new HashMap<>();
+    private final StringRedisTemplate stringRedisTemplate = redis();
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(5_000, stringRedisTemplate, now::get);
+    private final List<Boolean> pinnedDuringRequest = new ArrayList<>();
+
+    @Test
+    void pinsTheWritersReadsForTheWindow() throws Exception {
+        request("GET", "7", 200);
+        request("PUT", "7", 200);
+        request("GET", "7", 200);
+        request("GET", "8", 200);
+        now.addAndGet(5_000);
+        request("GET", "7", 200);
+
+        assertEquals(List.of(false, false, true, false, false), pinnedDuringRequest);
+        assertFalse(ReadRouting.isPrimaryForced());
+    }
+
+    @Test
+    void failedWritesAndAnonymousRequestsDoNotPin() throws Exception {
+        request("POST", "7", 400);
+        request("GET", "7", 200);
+        request("POST", null, 201);
+        request("GET", null, 200);
+
+        assertEquals(List.of(false, false, false, false), pinnedDuringRequest);
+    }
+
+    @Test
+    void pinsReadsThatLandOnAnotherInstance() throws Exception {
+        ReadYourWritesFilter other = new ReadYourWritesFilter(5_000, stringRedisTemplate, now::get);
+
+        request(filter, "PUT", "7", 200);
+        request(other, "GET", "7", 200);
+        now.addAndGet(5_000);
+        request(other, "GET", "7", 200);
+
+        assertEquals(List.of(false, true, false), pinnedDuringRequest);
+    }
+
+    @Test
+    void fallsBackToLocalPinsWhenRedisIsDown() throws Exception {
+        when(stringRedisTemplate.hasKey(anyString())).thenThrow(new IllegalStateException("redis down"));
+        when(stringRedisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+
+        request("PUT", "7", 200);
+        request("GET", "7", 200);
+        request("GET", "8", 200);
+
+        assertEquals(List.of(false, true, false), pinnedDuringRequest);
+    }
+
+    private void request(String method, String user, int status) throws Exception {
+        request(filter, method, user, status);
+    }
+
+    private void request(ReadYourWritesFilter filter, String method, String user, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/events/1");
+        if (user != null) {
+            request.addHeader(ReadYourWritesFilter.USER_HEADER, user);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            pinnedDuringRequest.add(ReadRouting.isPrimaryForced());
+            response.setStatus(status);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate redis() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(values);
+        doAnswer(inv -> redis.put(inv.getArgument(0), now.get() + inv.<Duration>getArgument(2).toMillis()))
+                .when(values).set(anyString(), eq("1"), any(Duration.class));
+        when(template.hasKey(anyString())).thenAnswer(inv -> redis.getOrDefault(inv.<String>getArgument(0), 0L) > now.get());
+        return template;
+    }
+}
@@ -0,0 +1,120 @@
+package com.eventverse.eventservice.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica0 = mock(DataSource.class);
+    private final DataSource replica1 = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica0Connection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Map<DataSource, Long> lag = new HashMap<>();
+
+    private ReplicaMonitor monitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        lag.put(replica0, 0L);
+        lag.put(replica1, 0L);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        monitor = new ReplicaMonitor(replicas, 1000, registry, dataSource -> {
+            Long value = lag.get(dataSource);
+            if (value == null) {
+                throw new IllegalStateException("connection refused");
+            }
+            return value;
+        });
+        routing = new ReplicaRoutingDataSource(primary, monitor, registry);
+        routing.afterPropertiesSet();
+        monitor.checkAll();
+    }
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadRouting.clear();
+    }
+
+    @Test
+    void sendsReadOnlyTransactionsToReplicasRoundRobin() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replica0Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica0Connection, routing.getConnection());
+        assertEquals(2.0, registry.get("event.datasource.routes").tag("target", "replica-0").counter().count());
+    }
+
+    @Test
+    void skipsLaggingAndUnreachableReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        lag.put(replica0, 5000L);
+        monitor.checkAll();
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+        assertEquals(0.0, registry.get("event.datasource.replica.healthy").tag("replica", "replica-0").gauge().value());
+        assertEquals(5000.0, registry.get("event.datasource.replica.lag").tag("replica", "replica-0").gauge().value());
+
+        lag.remove(replica1);
+        monitor.checkAll();
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1.0, registry.get("event.datasource.routes").tag("reason", "no-healthy-replica").counter().count());
+
+        lag.put(replica0, 10L);
+        monitor.checkAll();
+        assertSame(replica0Connection, routing.getConnection());
+    }
+
+    @Test
+    void failsOverToThePrimaryWhenAReplicaRefusesConnections() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica0.getConnection()).thenThrow(new SQLException("too many clients"));
+
+        assertSame(primaryConnection, routing.getConnection());
+        // taken out of rotation until the next good probe
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+    }
+
+    @Test
+    void pinnedReadsStayOnThePrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection pinned = ReadRouting.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, pinned);
+        assertSame(replica0Connection, routing.getConnection());
+    }
+}
@@ -0,0 +1,146 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventFacets;
+import com.eventverse.eventservice.exception.InvalidFilterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FacetIndexTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    private final FacetIndex index = new FacetIndex(new SimpleMeterRegistry(), "UTC", 50);
+
+    @Test
+    void countsPublicEventsPerFacetValue() {
+        index.bulk(List.of(
+                event(1L, "Pune", "MUSIC", 0),
+                event(2L, "Pune", "Music", 1),
+                event(3L, "Delhi", "TECH", 3),
+                privateEvent(4L, "Delhi", "TECH", 3)), List.of());
+
+        EventFacets facets = facets(null, null, null, null);
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of("MUSIC", 2L, "TECH", 1L), facets.getCategories());
+        assertEquals(List.of("Pune", "Delhi"), List.copyOf(facets.getCities().keySet()));
+        assertEquals(1L, facets.getDates().get("today"));
+        assertEquals(1L, facets.getDates().get("tomorrow"));
+        assertEquals(1L, facets.getDates().get("this_week"));
+    }
+
+    @Test
+    void filtersByIntersectionButKeepsAlternativesOfTheFilteredDimension() {
+        index.bulk(List.of(
+                event(1L, "Pune", "MUSIC", 0),
+                event(2L, "Pune", "TECH", 10),
+                event(3L, "Delhi", "MUSIC", 40),
+                event(4L, "Delhi", "TECH", -2)), List.of());
+
+        EventFacets facets = facets(null, "pune", "music", null);
+
+        assertEquals(1, facets.getTotal());
+        // categories within Pune, cities within MUSIC
+        assertEquals(Map.of("MUSIC", 1L, "TECH", 1L), facets.getCategories());
+        assertEquals(Map.of("Pune", 1L, "Delhi", 1L), facets.getCities());
+
+        EventFacets upcoming = facets(null, null, null, FacetIndex.DateBucket.THIS_MONTH);
+        assertEquals(1, upcoming.getTotal());
+        assertEquals(1L, facets(null, null, null, null).getDates().get("later"));
+        assertEquals(1L, facets(null, null, null, null).getDates().get("past"));
+    }
+
+    @Test
+    void restrictsToTextMatches() {
+        index.bulk(List.of(
+                event(1L, "Pune", "MUSIC", 0),
+                event(2L, "Pune", "TECH", 0),
+                event(3L, "Delhi", "MUSIC", 0)), List.of());
+
+        EventFacets facets = facets(List.of(1L, 3L, 99L), null, null, null);
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(Map.of("MUSIC", 2L), facets.getCategories());
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        index.bulk(List.of(event(1L, "Pune", "MUSIC", 0), event(2L, "Pune", "MUSIC", 0)), List.of());
+
+        index.bulk(List.of(event(1L, "Delhi", "TECH", 0)), List.of(2L));
+        EventFacets facets = facets(null, null, null, null);
+
+        assertEquals(1, facets.getTotal());
+        assertEquals(Map.of("TECH", 1L), facets.getCategories());
+        assertEquals(Map.of("Delhi", 1L), facets.getCities());
+
+        // the freed ordinal is reused without leaking the deleted event's memberships
+        index.bulk(List.of(event(3L, "Mumbai", "FOOD", 0)), List.of());
+        assertEquals(Map.of("Delhi", 1L, "Mumbai", 1L), facets(null, null, null, null).getCities());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void unfilteredCountsFollowVisibilityChanges() {
+        index.bulk(List.of(event(1L, "Pune", "MUSIC", 0), event(2L, "Pune", "MUSIC", 0)), List.of());
+        facets(null, null, null, null);
+
+        index.bulk(List.of(privateEvent(2L, "Pune", "MUSIC", 0)), List.of());
+        EventFacets facets = facets(null, null, null, null);
+
+        assertEquals(Map.of("MUSIC", 1L), facets.getCategories());
+        assertEquals(Map.of("Pune", 1L), facets.getCities());
+        assertEquals(1L, facets.getDates().get("today"));
+
+        index.bulk(List.of(), List.of(2L));
+        assertEquals(Map.of("MUSIC", 1L), facets(null, null, null, null).getCategories());
+    }
+
+    @Test
+    void unknownFilterValueMatchesNothing() {
+        index.bulk(List.of(event(1L, "Pune", "MUSIC", 0)), List.of());
+
+        EventFacets facets = facets(null, "Atlantis", null, null);
+
+        assertEquals(0, facets.getTotal());
+        assertTrue(facets.getCategories().isEmpty());
+        assertFalse(facets.isReady());
+    }
+
+    private EventFacets facets(List<Long> restrictTo, String city, String category, FacetIndex.DateBucket date) {
+        return index.facets(restrictTo, city, category, date, TODAY);
+    }
+
+    @Test
+    void rejectsUnknownDateBuckets() {
+        assertEquals(FacetIndex.DateBucket.THIS_WEEK, FacetIndex.DateBucket.fromKey("this_week"));
+        assertThrows(InvalidFilterException.class, () -> FacetIndex.DateBucket.fromKey("someday"));
+    }
+
+    private static Event event(Long id, String city, String category, int daysFromToday) {
+        Event e = new Event();
+        e.setId(id);
+        e.setCity(city);
+        e.setCategory(category);
+        e.setTime(OffsetDateTime.of(TODAY.plusDays(daysFromToday).atTime(18, 0), ZoneOffset.UTC));
+        return e;
+    }
+
+    private static Event privateEvent(Long id, String city, String category, int daysFromToday) {
+        Event e = event(id, city, category, daysFromToday);
+        e.setPublicEvent(false);
+        return e;
+    }
+}
@@ -0,0 +1,146 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoIndexTests {
+
+    private static final Instant NOW = Instant.parse("2025-06-10T12:00:00Z");
+    // Shivajinagar, Pune
+    private static final double LAT = 18.5308;
+    private static final double LON = 73.8475;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final GeoIndex index = new GeoIndex(new SimpleMeterRegistry(), 0.05, 24, 200, clock);
+
+    @Test
+    void findsEventsWithinRadiusNearestThenSoonestFirst() {
+        index.bulk(List.of(
+                event(1L, 18.5204, 73.8567, 48),   // Pune centre, ~1.5 km
+                event(2L, 18.5204, 73.8567, 2),    // same venue, sooner
+                event(3L, 18.5642, 73.7769, 5),    // Baner, ~8 km
+                event(4L, 18.6298, 73.7997, 5),    // Pimpri, ~12 km
+                event(5L, 19.0760, 72.8777, 5),    // Mumbai, ~120 km
+                privateEvent(6L, 18.5204, 73.8567, 5),
+                event(7L, null, null, 5)), List.of());
+
+        List<GeoIndex.Hit> hits = nearby(10, 72);
+
+        assertEquals(List.of(2L, 1L, 3L), ids(hits));
+        assertTrue(hits.get(0).distanceKm() > 1 && hits.get(0).distanceKm() < 2);
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(nearby(15, 72)));
+    }
+
+    @Test
+    void restrictsToTheTimeRange() {
+        index.bulk(List.of(
+                event(1L, LAT, LON, 2),
+                event(2L, LAT, LON, 30),
+                event(3L, LAT, LON, 24 * 40)), List.of());
+
+        assertEquals(List.of(1L), ids(nearby(5, 24)));
+        assertEquals(List.of(1L, 2L), ids(nearby(5, 72)));
+    }
+
+    @Test
+    void movesUpdatedEventsAndDropsDeletedOnes() {
+        index.bulk(List.of(event(1L, LAT, LON, 2), event(2L, LAT, LON, 3)), List.of());
+
+        // moved to Mumbai, made private
+        index.bulk(List.of(event(1L, 19.0760, 72.8777, 2), privateEvent(2L, LAT, LON, 3)), List.of());
+        assertEquals(List.of(), ids(nearby(50, 72)));
+
+        index.bulk(List.of(), List.of(1L));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void wrapsAcrossTheAntimeridian() {
+        index.bulk(List.of(event(1L, -16.5, 179.99, 2), event(2L, -16.5, -179.98, 2)), List.of());
+
+        List<GeoIndex.Hit> hits = index.nearby(-16.5, 179.999, 10, NOW, NOW.plus(Duration.ofDays(1)), 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+    }
+
+    @Test
+    void dropsWindowsThatHaveEnded() {
+        index.bulk(List.of(event(1L, LAT, LON, 2), event(2L, LAT, LON, 72)), List.of());
+
+        clock.now = NOW.plus(Duration.ofDays(2));
+        index.bulk(List.of(), List.of());
+
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void rejectsAnInvertedTimeRangeOrAnEmptyLimit() {
+        index.bulk(List.of(event(1L, LAT, LON, 2)), List.of());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> index.nearby(LAT, LON, 5, NOW, NOW.minus(Duration.ofHours(1)), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.nearby(LAT, LON, 5, NOW, NOW.plus(Duration.ofHours(5)), 0));
+    }
+
+    private List<GeoIndex.Hit> nearby(double radiusKm, int hours) {
+        return index.nearby(LAT, LON, radiusKm, NOW, NOW.plus(Duration.ofHours(hours)), 10);
+    }
+
+    private static List<Long> ids(List<GeoIndex.Hit> hits) {
+        return hits.stream().map(GeoIndex.Hit::eventId).toList();
+    }
+
+    private static Event event(Long id, Double lat, Double lon, int hoursFromNow) {
+        Event e = new Event();
+        e.setId(id);
+        e.setTitle("Event " + id);
+        e.setCity("Pune");
+        e.setLatitude(lat);
+        e.setLongitude(lon);
+        e.setTime(OffsetDateTime.ofInstant(NOW.plus(Duration.ofHours(hoursFromNow)), ZoneOffset.UTC));
+        return e;
+    }
+
+    private static Event privateEvent(Long id, Double lat, Double lon, int hoursFromNow) {
+        Event e = event(id, lat, lon, hoursFromNow);
+        e.setPublicEvent(false);
+        return e;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test sink that keeps indexed documents in a map and records every bulk call.
+ */
+class InMemorySearchIndexer implements SearchIndexer {
+
+    final Map<Long, EventDocument> documents = new ConcurrentHashMap<>();
+    final List<Integer> batchSizes = new ArrayList<>();
+    int failuresLeft;
+
+    @Override
+    public synchronized void bulk(List<Event> upserts, Collection<Long> deletes) {
+        if (failuresLeft > 0) {
+            failuresLeft--;
+            throw new IllegalStateException("index unavailable");
+        }
+        batchSizes.add(upserts.size() + deletes.size());
+        upserts.forEach(e -> documents.put(e.getId(), EventDocument.from(e)));
+        deletes.forEach(documents::remove);
+    }
+}
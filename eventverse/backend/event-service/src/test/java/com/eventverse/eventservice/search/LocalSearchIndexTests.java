@@ -0,0 +1,88 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSearchIndexTests {
+
+    private final LocalSearchIndex index =
+            new LocalSearchIndex(new SimpleMeterRegistry(), true);
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        index.bulk(List.of(
+                event(1L, "Pune", "Comedy Open Mic", "An evening with a little jazz in between"),
+                event(2L, "Pune", "Jazz Night", "Live quartet")), List.of());
+
+        assertEquals(List.of(2L, 1L), index.search("jazz", null, 0, 10).getContent());
+    }
+
+    @Test
+    void matchesPrefixesOfIndexedTerms() {
+        index.bulk(List.of(event(1L, "Mumbai", "Photography Workshop", null)), List.of());
+
+        assertEquals(List.of(1L), index.search("photo work", null, 0, 10).getContent());
+    }
+
+    @Test
+    void filtersByCityAndPages() {
+        index.bulk(List.of(
+                event(1L, "Pune", "Rock Concert", null),
+                event(2L, "Delhi", "Rock Concert", null),
+                event(3L, "Pune", "Rock Festival", null)), List.of());
+
+        var firstPage = index.search("rock", "pune", 0, 1);
+        var secondPage = index.search("rock", "PUNE", 1, 1);
+
+        assertEquals(2, firstPage.getTotalElements());
+        assertEquals(1, firstPage.getContent().size());
+        assertEquals(1, secondPage.getContent().size());
+        assertTrue(!firstPage.getContent().get(0).equals(secondPage.getContent().get(0)));
+    }
+
+    @Test
+    void updatesReplaceOldTermsAndDeletesRemove() {
+        index.bulk(List.of(event(1L, "Pune", "Jazz Night", null)), List.of());
+        Event renamed = event(1L, "Pune", "Blues Night", null);
+        renamed.setVersion(1L);
+        index.bulk(List.of(renamed), List.of());
+
+        assertTrue(index.search("jazz", null, 0, 10).isEmpty());
+        assertEquals(List.of(1L), index.search("blues", null, 0, 10).getContent());
+
+        index.bulk(List.of(), List.of(1L));
+        assertTrue(index.search("blues", null, 0, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void ignoresOlderSnapshotsAndPrivateEvents() {
+        Event current = event(1L, "Pune", "Blues Night", null);
+        current.setVersion(3L);
+        Event stale = event(1L, "Pune", "Jazz Night", null);
+        stale.setVersion(2L);
+        Event hidden = event(2L, "Pune", "Jazz Private Party", null);
+        hidden.setPublicEvent(false);
+
+        index.bulk(List.of(current, stale, hidden), List.of());
+
+        assertTrue(index.search("jazz", null, 0, 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    private static Event event(Long id, String city, String title, String description) {
+        Event e = new Event();
+        e.setId(id);
+        e.setCity(city);
+        e.setTitle(title);
+        e.setDescription(description);
+        e.setVersion(0L);
+        return e;
+    }
+}
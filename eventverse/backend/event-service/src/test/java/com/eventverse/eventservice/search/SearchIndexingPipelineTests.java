@@ -0,0 +1,215 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.replica.ReadRouting;
+import com.eventverse.eventservice.repository.EventRepository;
+import com.eventverse.eventservice.sharding.ShardId;
+import com.eventverse.eventservice.sharding.ShardResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchIndexingPipelineTests {
+
+    private final EventRepository repository = mock(EventRepository.class);
+    private final ShardResolver shardResolver = mock(ShardResolver.class);
+    private final InMemorySearchIndexer indexer = new InMemorySearchIndexer();
+    private final CountDownLatch localBuilt = new CountDownLatch(1);
+    private final InMemorySearchIndexer localIndexer = new InMemorySearchIndexer() {
+        @Override
+        public boolean replicaLocal() {
+            return true;
+        }
+
+        @Override
+        public void onBuildComplete() {
+            localBuilt.countDown();
+        }
+    };
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SearchIndexingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        when(shardResolver.resolveByEventId(anyLong())).thenReturn(ShardId.DEFAULT);
+        when(repository.findAllById(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().filter(id -> id < 100).map(SearchIndexingPipelineTests::event).toList();
+        });
+        // flush-ms 0: no background schedule, tests flush explicitly
+        pipeline = new SearchIndexingPipeline(repository, shardResolver, List.of(indexer, localIndexer),
+                mock(StringRedisTemplate.class), registry, 2, 0, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void coalescesRepeatedChangesToTheSameEvent() {
+        pipeline.index(1L);
+        pipeline.index(1L);
+        pipeline.index(1L);
+
+        assertEquals(1, pipeline.pendingCount());
+        pipeline.flush();
+
+        assertTrue(indexer.documents.containsKey(1L));
+        assertEquals(List.of(1), indexer.batchSizes);
+    }
+
+    @Test
+    void latestOperationWins() {
+        pipeline.index(2L);
+        pipeline.flush();
+        pipeline.index(2L);
+        pipeline.delete(2L);
+        pipeline.flush();
+
+        assertFalse(indexer.documents.containsKey(2L));
+    }
+
+    @Test
+    void flushesInBoundedBatches() {
+        pipeline.index(1L);
+        pipeline.index(2L);
+        pipeline.index(3L);
+
+        // reaching batch-size also schedules a flush on the pipeline thread; drain, then let it finish
+        while (pipeline.pendingCount() > 0) {
+            assertTrue(pipeline.flush() <= 2);
+        }
+        pipeline.shutdown();
+
+        assertEquals(3, indexer.documents.size());
+        assertTrue(indexer.batchSizes.stream().allMatch(size -> size <= 2));
+    }
+
+    @Test
+    void rowsMissingAtFlushTimeAreDeleted() {
+        indexer.documents.put(150L, EventDocument.builder().id(150L).build());
+
+        pipeline.index(150L);
+        pipeline.flush();
+
+        assertFalse(indexer.documents.containsKey(150L));
+    }
+
+    @Test
+    void readsJustWrittenRowsFromThePrimaryWhileReplicasLag() {
+        // the replica has not caught up with event 7 yet; only the primary has it
+        doAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ReadRouting.isPrimaryForced()
+                    ? ids.stream().map(SearchIndexingPipelineTests::event).toList()
+                    : List.of();
+        }).when(repository).findAllById(any());
+
+        pipeline.index(7L);
+        pipeline.flush();
+
+        assertTrue(indexer.documents.containsKey(7L), "a lagging replica must not turn the upsert into a delete");
+        assertTrue(localIndexer.documents.containsKey(7L));
+        assertFalse(ReadRouting.isPrimaryForced(), "the pin does not leak into the flush thread");
+    }
+
+    @Test
+    void retriesFailedBatchesThenGivesUp() {
+        indexer.failuresLeft = 1;
+        pipeline.index(4L);
+
+        pipeline.flush();
+        assertEquals(1, pipeline.pendingCount());
+        pipeline.flush();
+        assertTrue(indexer.documents.containsKey(4L));
+
+        indexer.failuresLeft = 10;
+        pipeline.index(5L);
+        pipeline.flush();
+        pipeline.flush();
+        pipeline.flush();
+        assertEquals(0, pipeline.pendingCount());
+        assertEquals(1.0, registry.counter("event.search.index.changes", "outcome", "dropped").count());
+    }
+
+    @Test
+    void waitsForCommitBeforeQueueing() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pipeline.index(6L);
+            assertEquals(0, pipeline.pendingCount());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, pipeline.pendingCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remoteChangesOnlyReachReplicaLocalSinks() {
+        pipeline.onRemoteChange("other-replica|i|7");
+        pipeline.flush();
+
+        assertTrue(localIndexer.documents.containsKey(7L));
+        assertFalse(indexer.documents.containsKey(7L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushesWhileLocalSinksBuildAndReplaysWhatChangedMeanwhile() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger scans = new AtomicInteger();
+        when(repository.findBy(any(Specification.class), any())).thenAnswer(inv -> {
+            if (scans.getAndIncrement() > 0) {
+                return List.of();
+            }
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            // read before event 3 changed
+            Event stale = event(3L);
+            stale.setTitle("Stale");
+            return List.of(stale);
+        });
+
+        pipeline.buildLocalSinks();
+        pipeline.index(3L);
+        pipeline.flush();
+
+        // Elasticsearch is not held up by the build, the local sink waits for it
+        assertTrue(indexer.documents.containsKey(3L));
+        assertFalse(localIndexer.documents.containsKey(3L));
+
+        release.countDown();
+        assertTrue(localBuilt.await(5, TimeUnit.SECONDS));
+        assertEquals("Event 3", localIndexer.documents.get(3L).getTitle());
+    }
+
+    private static Event event(Long id) {
+        Event e = new Event();
+        e.setId(id);
+        e.setTitle("Event " + id);
+        e.setCity("Pune");
+        return e;
+    }
+}
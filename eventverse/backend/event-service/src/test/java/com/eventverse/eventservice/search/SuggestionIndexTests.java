@@ -0,0 +1,93 @@
+package com.eventverse.eventservice.search;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventSuggestion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionIndexTests {
+
+    private final SuggestionIndex index = new SuggestionIndex(new SimpleMeterRegistry(), 3);
+
+    @Test
+    void ranksByPopularityAndMatchesWordStarts() {
+        index.bulk(List.of(
+                event(1L, "Pune", "Jazz Brunch", 10),
+                event(2L, "Pune", "Blue Note Jazz Night", 90),
+                event(3L, "Pune", "Jam Session", 50)), List.of());
+
+        assertEquals(List.of("Blue Note Jazz Night", "Jam Session", "Jazz Brunch"), texts(index.suggest("ja", null, 10)));
+        assertEquals(List.of("Blue Note Jazz Night", "Jazz Brunch"), texts(index.suggest("JAZZ", null, 10)));
+    }
+
+    @Test
+    void scopesByCity() {
+        index.bulk(List.of(
+                event(1L, "Pune", "Rock Night", 10),
+                event(2L, "Delhi", "Rock Fest", 90)), List.of());
+
+        assertEquals(List.of("Rock Night"), texts(index.suggest("rock", "pune", 10)));
+        assertEquals(2, index.suggest("rock", null, 10).size());
+    }
+
+    @Test
+    void keepsTopKCurrentAcrossUpdatesAndDeletes() {
+        index.bulk(List.of(
+                event(1L, "Pune", "Art Walk", 40),
+                event(2L, "Pune", "Art Fair", 30),
+                event(3L, "Pune", "Art Talk", 20),
+                event(4L, "Pune", "Art Camp", 10)), List.of());
+        assertEquals(List.of("Art Walk", "Art Fair", "Art Talk"), texts(index.suggest("art", null, 10)));
+
+        // renaming the most popular event and deleting another refills from below the node
+        index.bulk(List.of(event(1L, "Pune", "Sculpture Walk", 40)), List.of(2L));
+
+        assertEquals(List.of("Art Talk", "Art Camp"), texts(index.suggest("art", null, 10)));
+        assertEquals(List.of("Sculpture Walk"), texts(index.suggest("sculp", null, 10)));
+    }
+
+    @Test
+    void returnsSharedVenuesOnce() {
+        Event a = event(1L, "Pune", "Open Mic", 10);
+        a.setVenue("Blue Frog");
+        Event b = event(2L, "Pune", "Quiz Night", 20);
+        b.setVenue("Blue Frog");
+        index.bulk(List.of(a, b), List.of());
+
+        List<EventSuggestion> venues = index.suggest("blue f", null, 10);
+
+        assertEquals(1, venues.size());
+        assertEquals("venue", venues.get(0).getType());
+        assertEquals(2L, venues.get(0).getEventId());
+    }
+
+    @Test
+    void filtersPrefixesLongerThanTheKeyCap() {
+        String longTitle = "International Conference On Distributed Systems Engineering";
+        index.bulk(List.of(
+                event(1L, "Pune", longTitle, 10),
+                event(2L, "Pune", "International Conference On Distributed Databases", 20)), List.of());
+
+        String prefix = "international conference on distributed s";
+        assertTrue(prefix.length() > SuggestionIndex.MAX_KEY_LENGTH);
+        assertEquals(List.of(longTitle), texts(index.suggest(prefix, null, 10)));
+    }
+
+    private static List<String> texts(List<EventSuggestion> suggestions) {
+        return suggestions.stream().map(EventSuggestion::getText).toList();
+    }
+
+    private static Event event(Long id, String city, String title, long popularity) {
+        Event e = new Event();
+        e.setId(id);
+        e.setCity(city);
+        e.setTitle(title);
+        e.setPopularityScore(popularity);
+        return e;
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventverse.eventservice.service;
+
+import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCursorTests {
+
+    @Test
+    void roundTripsThroughOpaqueToken() {
+        EventResponse last = new EventResponse();
+        last.setId(981L);
+        last.setPopularityScore(57L);
+        last.setTime(OffsetDateTime.of(2026, 3, 14, 18, 45, 12, 500_000, ZoneOffset.ofHours(5)));
+
+        String token = EventCursor.after("POPULAR", last).encode();
+        EventCursor decoded = EventCursor.decode(token, "POPULAR");
+
+        assertEquals(981L, decoded.id());
+        assertEquals(57L, decoded.popularityScore());
+        assertTrue(last.getTime().isEqual(decoded.time()));
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSort() {
+        EventResponse last = new EventResponse();
+        last.setId(1L);
+        last.setTime(OffsetDateTime.now());
+        String token = EventCursor.after("TIME_ASC", last).encode();
+
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(token, "POPULAR"));
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("not a cursor!", "TIME_ASC"));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("djE6VElNRV9BU0M6eA", "TIME_ASC"));
+    }
+}
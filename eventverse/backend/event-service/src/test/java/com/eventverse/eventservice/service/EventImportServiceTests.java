@@ -0,0 +1,157 @@
+package com.eventverse.eventservice.service;
+
+import com.eventverse.eventservice.domain.Event;
+import com.eventverse.eventservice.dto.EventImportResult;
+import com.eventverse.eventservice.mapper.EventMapper;
+import com.eventverse.eventservice.messaging.CapacityEventPublisher;
+import com.eventverse.eventservice.search.SearchIndexingPipeline;
+import com.eventverse.eventservice.service.cache.PopularEventsCache;
+import com.eventverse.eventservice.sharding.CityBasedShardResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventImportServiceTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CapacityEventPublisher capacityEventPublisher = mock(CapacityEventPublisher.class);
+    private final SearchIndexingPipeline searchIndexingPipeline = mock(SearchIndexingPipeline.class);
+    private final PopularEventsCache popularEventsCache = mock(PopularEventsCache.class);
+    private final BloomFilter bloomFilter = new BloomFilter();
+    private final AtomicLong sequence = new AtomicLong(100);
+    private final List<List<Event>> batches = new ArrayList<>();
+
+    private final EventImportService importer = new EventImportService(
+            jdbcTemplate,
+            mock(PlatformTransactionManager.class),
+            new ObjectMapper().findAndRegisterModules(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new EventMapper(),
+            new CityBasedShardResolver(),
+            capacityEventPublisher,
+            searchIndexingPipeline,
+            bloomFilter,
+            popularEventsCache,
+            new SimpleMeterRegistry(),
+            2,
+            10);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class))).thenReturn("events_id_seq");
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(3);
+            return LongStream.range(0, count).mapToObj(i -> sequence.incrementAndGet()).toList();
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Event> events = invocation.getArgument(1);
+                    if (events.stream().anyMatch(e -> e.getVenue() != null && e.getVenue().length() > 255)) {
+                        throw new DataIntegrityViolationException("value too long for type character varying(255)");
+                    }
+                    batches.add(List.copyOf(events));
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    void importsNdjsonInBatchesAndReportsInvalidRows() throws Exception {
+        String body = String.join("\n",
+                row("Gig 1", "Pune", 100),
+                row("Gig 2", "Pune", 50),
+                "{\"title\": ",
+                "",
+                row("", "Pune", 10),
+                "{\"title\":\"No organizer\",\"city\":\"Pune\",\"time\":\"2030-01-01T19:00:00Z\",\"capacity\":5}",
+                row("Gig 3", "Pune", 70));
+
+        EventImportResult result = importer.importEvents(stream(body), EventImportService.Format.NDJSON);
+
+        assertEquals(6, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L), result.getErrors().stream().map(EventImportResult.RowError::getRow).toList());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("title:"));
+        assertTrue(result.getErrors().get(2).getMessage().contains("organizerId"));
+
+        // batch size 2: one full batch while reading, the remainder at the end
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        assertEquals(List.of(101L, 102L), batches.get(0).stream().map(Event::getId).toList());
+        verify(capacityEventPublisher, times(3)).capacityChanged(any(Event.class));
+        verify(searchIndexingPipeline).indexAll(List.of(101L, 102L));
+        assertTrue(bloomFilter.mightContain("103"));
+        verify(popularEventsCache).evictFor(eq("pune"), isNull());
+    }
+
+    @Test
+    void importsCsvWithHeader() throws Exception {
+        String body = """
+                title,city,time,capacity,organizerId,price,publicEvent
+                "Jazz, live",Mumbai,2030-01-01T19:00:00Z,120,7,25.50,false
+                Open mic,Delhi,2030-01-02T19:00:00Z,abc,7,,
+                """;
+
+        EventImportResult result = importer.importEvents(stream(body), EventImportService.Format.CSV);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2L, result.getErrors().get(0).getRow());
+        Event jazz = batches.get(0).get(0);
+        assertEquals("Jazz, live", jazz.getTitle());
+        assertEquals(120, jazz.getCapacity());
+        assertEquals("25.50", jazz.getPrice().toPlainString());
+        assertEquals(false, jazz.isPublicEvent());
+    }
+
+    @Test
+    void retriesAFailedBatchRowByRow() throws Exception {
+        String tooLong = "x".repeat(300);
+        String body = row("Ok", "Pune", 10) + "\n"
+                + "{\"title\":\"Bad\",\"city\":\"Pune\",\"time\":\"2030-01-01T19:00:00Z\",\"capacity\":5,\"organizerId\":7,\"venue\":\"" + tooLong + "\"}";
+
+        EventImportResult result = importer.importEvents(stream(body), EventImportService.Format.NDJSON);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2L, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessage().contains("too long"));
+        assertEquals("Ok", batches.get(0).get(0).getTitle());
+    }
+
+    private static String row(String title, String city, int capacity) {
+        return "{\"title\":\"" + title + "\",\"city\":\"" + city + "\",\"time\":\"2030-01-01T19:00:00Z\","
+                + "\"capacity\":" + capacity + ",\"organizerId\":7}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.CachedEventPage;
+import com.eventverse.eventservice.dto.EventResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCacheCodecTests {
+
+    private final GenericJackson2JsonRedisSerializer json = jsonSerializer();
+    private final EventCacheCodec codec = new EventCacheCodec(json, true);
+
+    @Test
+    void roundTripsEnvelopedEvent() {
+        EventResponse event = sampleEvent(42L);
+        CacheEnvelope envelope = new CacheEnvelope(event, 1_000, 300_000, 12);
+
+        byte[] bytes = codec.serialize(envelope);
+        CacheEnvelope read = assertInstanceOf(CacheEnvelope.class, codec.deserialize(bytes));
+
+        assertEquals(EventCacheCodec.MAGIC, bytes[0]);
+        assertEquals(301_000, read.getSoftExpiresAt());
+        assertEquals(12, read.getComputeMillis());
+        assertSameEvent(event, assertInstanceOf(EventResponse.class, read.getValue()));
+        assertTrue(bytes.length < json.serialize(envelope).length);
+    }
+
+    @Test
+    void roundTripsPageWithNullFields() {
+        EventResponse sparse = new EventResponse();
+        sparse.setId(7L);
+        CachedEventPage page = new CachedEventPage();
+        page.setContent(List.of(sampleEvent(1L), sparse));
+        page.setPage(2);
+        page.setSize(20);
+        page.setTotalElements(57);
+
+        CachedEventPage read = assertInstanceOf(CachedEventPage.class, codec.deserialize(codec.serialize(page)));
+
+        assertEquals(2, read.getPage());
+        assertEquals(57, read.getTotalElements());
+        assertSameEvent(page.getContent().get(0), read.getContent().get(0));
+        assertEquals(7L, read.getContent().get(1).getId());
+        assertNull(read.getContent().get(1).getTitle());
+        assertNull(read.getContent().get(1).getTime());
+    }
+
+    @Test
+    void readsEntriesWrittenAsJson() {
+        CacheEnvelope envelope = new CacheEnvelope(sampleEvent(5L), 0, 1_000, 3);
+
+        Object read = codec.deserialize(json.serialize(envelope));
+
+        EventResponse value = assertInstanceOf(EventResponse.class, ((CacheEnvelope) read).getValue());
+        assertSameEvent(sampleEvent(5L), value);
+    }
+
+    @Test
+    void jsonModeStillWritesJson() {
+        EventCacheCodec jsonMode = new EventCacheCodec(json, false);
+
+        byte[] bytes = jsonMode.serialize(sampleEvent(1L));
+
+        assertEquals('[', bytes[0]);
+        assertInstanceOf(EventResponse.class, codec.deserialize(bytes));
+    }
+
+    @Test
+    void skipsFieldsAppendedByNewerWriters() {
+        // event record: presence = id only, id = 7, then two bytes of an unknown trailing field
+        byte[] bytes = {EventCacheCodec.MAGIC, EventCacheCodec.VERSION, 1, 0, 0, 0, 4, 2, 14, 5, 6};
+
+        EventResponse read = assertInstanceOf(EventResponse.class, codec.deserialize(bytes));
+
+        assertEquals(7L, read.getId());
+    }
+
+    @Test
+    void rejectsNewerFormatVersions() {
+        byte[] bytes = {EventCacheCodec.MAGIC, (byte) (EventCacheCodec.VERSION + 1), 1, 0};
+
+        assertThrows(SerializationException.class, () -> codec.deserialize(bytes));
+    }
+
+    private static EventResponse sampleEvent(Long id) {
+        EventResponse e = new EventResponse();
+        e.setId(id);
+        e.setTitle("Jazz Night");
+        e.setDescription("Live music — all evening");
+        e.setCity("Pune");
+        e.setTime(OffsetDateTime.of(2026, 5, 1, 19, 30, 0, 0, ZoneOffset.ofHoursMinutes(5, 30)));
+        e.setCapacity(300);
+        e.setTotalSeats(300);
+        e.setAvailableSeats(-1);
+        e.setOrganizerId(9L);
+        e.setVenue("Blue Frog");
+        e.setCategory("MUSIC");
+        e.setPublicEvent(true);
+        e.setImageUrl("https://img.example/jazz.png");
+        e.setPopularityScore(1234L);
+        e.setPrice(new BigDecimal("499.50"));
+        e.setVersion(4L);
+        return e;
+    }
+
+    private static void assertSameEvent(EventResponse expected, EventResponse actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCity(), actual.getCity());
+        assertTrue(expected.getTime().isEqual(actual.getTime()));
+        assertEquals(expected.getCapacity(), actual.getCapacity());
+        assertEquals(expected.getAvailableSeats(), actual.getAvailableSeats());
+        assertEquals(expected.getOrganizerId(), actual.getOrganizerId());
+        assertEquals(expected.getVenue(), actual.getVenue());
+        assertEquals(expected.isPublicEvent(), actual.isPublicEvent());
+        assertEquals(expected.getPopularityScore(), actual.getPopularityScore());
+        assertEquals(expected.getPrice(), actual.getPrice());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.eventverse.eventservice.dto")
+                .allowIfSubType("java.math")
+                .allowIfSubType("java.util")
+                .allowIfSubType("java.time")
+                .build(), ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+}
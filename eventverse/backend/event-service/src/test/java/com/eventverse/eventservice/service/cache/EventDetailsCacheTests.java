@@ -0,0 +1,105 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.CacheEnvelope;
+import com.eventverse.eventservice.dto.EventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class EventDetailsCacheTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final HotKeyTracker hotKeys = new HotKeyTracker(8, 1, 2, 0.05, 1_000, now::get);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(EventDetailsCache.CACHE_NAME);
+    private final EventDetailsCache cache = new EventDetailsCache(
+            cacheManager,
+            mock(StringRedisTemplate.class),
+            mock(CacheRefresher.class),
+            mock(RenderedEventCache.class),
+            hotKeys,
+            new SimpleMeterRegistry(),
+            1 << 20,
+            5_000,
+            300_000,
+            3);
+
+    @Test
+    void copiesHotEntriesToReplicaKeysAndEvictsAllOfThem() {
+        makeHot(7L);
+        cache.put(7L, event(7L), 5);
+        cache.put(8L, event(8L), 5);
+
+        Cache l2 = cacheManager.getCache(EventDetailsCache.CACHE_NAME);
+        for (int r = 1; r <= 3; r++) {
+            CacheEnvelope copy = assertInstanceOf(CacheEnvelope.class, l2.get("7:r" + r).get());
+            assertEquals(7L, ((EventResponse) copy.getValue()).getId());
+            assertNull(l2.get("8:r" + r), "cold keys are not replicated");
+        }
+
+        cache.evict(7L);
+        assertNull(l2.get(7L));
+        for (int r = 1; r <= 3; r++) {
+            assertNull(l2.get("7:r" + r));
+        }
+    }
+
+    @Test
+    void readsNeverWriteReplicaKeys() {
+        Cache l2 = cacheManager.getCache(EventDetailsCache.CACHE_NAME);
+        l2.put(7L, new CacheEnvelope(event(7L), System.currentTimeMillis(), 300_000, 5));
+        makeHot(7L);
+
+        for (int i = 0; i < 50; i++) {
+            cache.onRemoteInvalidation(7L);
+            assertNotNull(cache.get(7L, () -> { }));
+        }
+
+        for (int r = 1; r <= 3; r++) {
+            assertNull(l2.get("7:r" + r), "a read racing an evict must not write a stale copy back");
+        }
+    }
+
+    @Test
+    void batchReadsNearCacheThenSharedCacheAndSkipsMisses() {
+        cache.put(1L, event(1L), 5);
+        Cache l2 = cacheManager.getCache(EventDetailsCache.CACHE_NAME);
+        l2.put(2L, new CacheEnvelope(event(2L), System.currentTimeMillis(), 300_000, 5));
+
+        Map<Long, EventResponse> found = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(found.keySet()));
+        assertEquals("Gig 2", found.get(2L).getTitle());
+        // the shared hit was promoted into the near cache
+        l2.evict(2L);
+        assertEquals(Set.of(2L), cache.getAll(List.of(2L)).keySet());
+        assertEquals(List.of(), hotKeys.hotKeys(), "listing reads are not counted as hot");
+    }
+
+    private void makeHot(long id) {
+        for (int i = 0; i < 100; i++) {
+            hotKeys.record(id);
+        }
+        now.addAndGet(1_000);
+        hotKeys.record(id);
+    }
+
+    private static EventResponse event(Long id) {
+        EventResponse e = new EventResponse();
+        e.setId(id);
+        e.setTitle("Gig " + id);
+        return e;
+    }
+}
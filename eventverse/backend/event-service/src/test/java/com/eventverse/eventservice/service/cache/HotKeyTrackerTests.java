@@ -0,0 +1,102 @@
+package com.eventverse.eventservice.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeyTrackerTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final HotKeyTracker tracker = new HotKeyTracker(8, 2, 2, 0.05, 1_000, now::get);
+
+    @Test
+    void findsHeavyHittersInALongTailOfColdKeys() {
+        // anything above its stripe's total / capacity is guaranteed to be monitored
+        HotKeyTracker tracker = new HotKeyTracker(64, 8, 2, 0.05, 1_000, now::get);
+        for (int i = 0; i < 10_000; i++) {
+            tracker.record(i % 10 == 0 ? 1L : i % 10 == 1 ? 2L : 1_000L + i);
+            if (i % 50 == 0) {
+                tracker.record(3L);
+            }
+        }
+        now.set(1_000);
+        tracker.record(1_000_000L);
+
+        assertEquals(List.of(1L, 2L), tracker.hotKeys().stream().map(HotKeyTracker.HotKey::eventId).toList());
+        assertTrue(tracker.isHot(1L));
+        assertFalse(tracker.isHot(3L), "only the top-k are hot");
+        HotKeyTracker.HotKey top = tracker.hotKeys().get(0);
+        assertTrue(top.count() - top.error() <= 1_000 && top.count() >= 1_000, "count bounds the true frequency");
+    }
+
+    @Test
+    void coolsDownWhenTrafficMovesOn() {
+        for (int i = 0; i < 100; i++) {
+            tracker.record(1L);
+        }
+        now.set(1_000);
+        tracker.record(1L);
+        assertTrue(tracker.isHot(1L));
+
+        for (int period = 2; period <= 8; period++) {
+            for (int i = 0; i < 100; i++) {
+                tracker.record(2L);
+            }
+            now.set(period * 1_000L);
+            tracker.record(2L);
+        }
+
+        assertFalse(tracker.isHot(1L));
+        assertTrue(tracker.isHot(2L));
+    }
+
+    @Test
+    void needsAMinimumShareOfTraffic() {
+        // every key is seen once: nothing stands out
+        for (long id = 0; id < 100; id++) {
+            tracker.record(id);
+        }
+        now.set(1_000);
+        tracker.record(100L);
+
+        assertEquals(List.of(), tracker.hotKeys());
+    }
+
+    @Test
+    void countsEveryRecordFromConcurrentReaders() throws Exception {
+        HotKeyTracker tracker = new HotKeyTracker(64, 8, 2, 0.05, 1_000, now::get);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long cold = 1_000L * (t + 1);
+                readers.add(pool.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        tracker.record(1L);
+                        tracker.record(cold + i);
+                    }
+                }));
+            }
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        now.set(1_000);
+        tracker.record(2L);
+
+        HotKeyTracker.HotKey top = tracker.hotKeys().get(0);
+        assertEquals(1L, top.eventId());
+        assertEquals(20_000, top.count(), "no hit is lost between stripes");
+    }
+}
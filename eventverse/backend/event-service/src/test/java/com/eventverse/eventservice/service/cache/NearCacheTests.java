@@ -0,0 +1,64 @@
+package com.eventverse.eventservice.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NearCacheTests {
+
+    @Test
+    void evictsLeastRecentlyUsedWhenWeightExceeded() {
+        NearCache<String, String> cache = new NearCache<>(10, Duration.ofMinutes(5), String::length);
+
+        cache.put("A", "aaaa");
+        cache.put("B", "bbbb");
+        // touch A so B becomes LRU
+        assertEquals("aaaa", cache.get("A"));
+
+        cache.put("C", "cccc");
+
+        assertNull(cache.get("B"), "B should be evicted to stay under the weight bound");
+        assertEquals("aaaa", cache.get("A"));
+        assertEquals("cccc", cache.get("C"));
+        assertEquals(8, cache.weight());
+    }
+
+    @Test
+    void rejectsValuesHeavierThanTheWholeCache() {
+        NearCache<String, String> cache = new NearCache<>(4, Duration.ofMinutes(5), String::length);
+
+        cache.put("small", "ab");
+        cache.put("huge", "abcdefgh");
+
+        assertNull(cache.get("huge"));
+        assertEquals("ab", cache.get("small"), "an oversized put must not flush existing entries");
+    }
+
+    @Test
+    void keepsPinnedKeysUnderWeightPressure() {
+        NearCache<String, String> cache = new NearCache<>(8, Duration.ofMinutes(5), String::length, "hot"::equals);
+
+        cache.put("hot", "hhhh");
+        cache.put("B", "bbbb");
+        cache.put("C", "cccc");
+
+        assertEquals("hhhh", cache.get("hot"), "pinned entries are skipped by weight eviction");
+        assertNull(cache.get("B"));
+        assertEquals("cccc", cache.get("C"));
+    }
+
+    @Test
+    void evictsEntriesAfterTtl() throws InterruptedException {
+        NearCache<String, String> cache = new NearCache<>(100, Duration.ofMillis(50), String::length);
+
+        cache.put("temp", "value");
+        Thread.sleep(70);
+
+        assertNull(cache.get("temp"), "Entry should be evicted after TTL expires");
+        assertEquals(0, cache.size(), "Cache should clean up expired entries");
+        assertEquals(0, cache.weight());
+    }
+}
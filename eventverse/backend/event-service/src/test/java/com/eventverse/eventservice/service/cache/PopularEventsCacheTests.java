@@ -0,0 +1,49 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.EventFilterRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PopularEventsCacheTests {
+
+    private static final OffsetDateTime JUNE_1 = OffsetDateTime.parse("2026-06-01T00:00:00Z");
+    private static final OffsetDateTime JUNE_30 = OffsetDateTime.parse("2026-06-30T23:59:59Z");
+
+    @Test
+    void keyIsCityScopedAndCaseInsensitive() {
+        EventFilterRequest filter = new EventFilterRequest();
+        filter.setCity(" Pune ");
+        filter.setFromTime(JUNE_1);
+
+        assertEquals("pune|2026-06-01T00:00Z|-|0|20", PopularEventsCache.keyFor(filter));
+
+        filter.setCity(null);
+        assertTrue(PopularEventsCache.keyFor(filter).startsWith("*|"));
+    }
+
+    @Test
+    void onlyWindowsContainingTheEventTimeMatch() {
+        EventFilterRequest filter = new EventFilterRequest();
+        filter.setCity("pune");
+        filter.setFromTime(JUNE_1);
+        filter.setToTime(JUNE_30);
+        String june = PopularEventsCache.keyFor(filter);
+
+        assertTrue(PopularEventsCache.windowContains(june, JUNE_1.plusDays(10)));
+        assertFalse(PopularEventsCache.windowContains(june, JUNE_1.minusDays(1)));
+        assertFalse(PopularEventsCache.windowContains(june, JUNE_30.plusDays(1)));
+    }
+
+    @Test
+    void openWindowsAlwaysMatch() {
+        String open = PopularEventsCache.keyFor(new EventFilterRequest());
+
+        assertTrue(PopularEventsCache.windowContains(open, JUNE_1));
+        assertTrue(PopularEventsCache.windowContains(open, JUNE_30.plusYears(1)));
+    }
+}
@@ -0,0 +1,119 @@
+package com.eventverse.eventservice.service.cache;
+
+import com.eventverse.eventservice.dto.EventResponse;
+import com.eventverse.eventservice.service.cache.RenderedEventCache.RenderedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderedEventCacheTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RenderedEventCache cache =
+            new RenderedEventCache(objectMapper, new HotKeyTracker(64, 8, 16, 0.01, 10_000, System::currentTimeMillis),
+                    new SimpleMeterRegistry(), 1 << 20, 60_000);
+
+    @Test
+    void rendersOnceUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        RenderedEvent first = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return event(1L, 3L, 40, "short");
+        });
+        RenderedEvent second = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return event(1L, 3L, 40, "short");
+        });
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        cache.invalidate(1L);
+        RenderedEvent third = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return event(1L, 3L, 39, "short");
+        });
+        assertEquals(2, loads.get());
+        assertNotEquals(first.etag(), third.etag(), "seat counts are part of the ETag");
+    }
+
+    @Test
+    void doesNotCacheResponsesWithUnknownAvailability() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return event(1L, 3L, null, "short");
+            });
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void dropsARenderThatRacedWithAnInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            // an update commits while this render is in flight
+            cache.invalidate(1L);
+            return event(1L, 3L, 40, "short");
+        });
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return event(1L, 4L, 40, "short");
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void gzipsLargeBodiesOnly() throws Exception {
+        RenderedEvent small = cache.render(event(1L, 1L, 10, "short"));
+        assertNull(small.gzip());
+
+        RenderedEvent large = cache.render(event(2L, 1L, 10, "a long description ".repeat(200)));
+        assertTrue(large.gzip().length < large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.json(), in.readAllBytes());
+        }
+        assertEquals(objectMapper.readTree(large.json()).get("version").asLong(), 1L);
+    }
+
+    @Test
+    void matchesIfNoneMatchWithWeakComparison() {
+        RenderedEvent rendered = cache.render(event(7L, 2L, 5, "short"));
+
+        assertEquals("W/\"7-2-5-100\"", rendered.etag());
+        assertTrue(rendered.matches("W/\"7-2-5-100\""));
+        assertTrue(rendered.matches("\"other\", \"7-2-5-100\""));
+        assertTrue(rendered.matches("*"));
+        assertFalse(rendered.matches("W/\"7-1-5-100\""));
+        assertFalse(rendered.matches(null));
+    }
+
+    private static EventResponse event(Long id, Long version, Integer available, String description) {
+        EventResponse e = new EventResponse();
+        e.setId(id);
+        e.setVersion(version);
+        e.setTitle("Gig");
+        e.setDescription(description);
+        e.setTotalSeats(100);
+        e.setAvailableSeats(available);
+        return e;
+    }
+}
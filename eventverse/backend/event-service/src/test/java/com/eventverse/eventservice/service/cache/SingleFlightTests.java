@@ -0,0 +1,94 @@
+package com.eventverse.eventservice.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SingleFlightTests {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentMissesShareOneLoad() throws Exception {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight singleFlight = new SingleFlight(redis, registry, 2000);
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.load("test", "k", () -> null, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return "value";
+            }));
+            loaderStarted.await(1, TimeUnit.SECONDS);
+
+            Future<String> follower1 = executor.submit(() -> singleFlight.load("test", "k", () -> null, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            Future<String> follower2 = executor.submit(() -> singleFlight.load("test", "k", () -> null, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("value", leader.get(1, TimeUnit.SECONDS));
+            assertEquals("value", follower1.get(1, TimeUnit.SECONDS));
+            assertEquals("value", follower2.get(1, TimeUnit.SECONDS));
+            assertEquals(1, loads.get(), "only the leader should hit the source of truth");
+            assertEquals(2.0, registry.counter("event.cache.single-flight",
+                    "cache", "test", "outcome", "coalesced").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void losingTheLeaseWaitsForTheOtherReplica() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(eq("lease:k"), anyString(), any(Duration.class))).thenReturn(false);
+        SingleFlight singleFlight = new SingleFlight(redis, new SimpleMeterRegistry(), 2000);
+
+        AtomicInteger probes = new AtomicInteger();
+        String value = singleFlight.load("test", "k",
+                () -> probes.incrementAndGet() < 3 ? null : "from-other-replica",
+                () -> "loaded-locally");
+
+        assertEquals("from-other-replica", value);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.eventverse.eventservice.service.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownstreamGuardTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final DownstreamGuard guard = new DownstreamGuard("inventory", 1, 4, 50,
+            Duration.ofSeconds(5), registry, now::get);
+
+    @Test
+    void fallsBackOnFailure() {
+        String result = guard.call(() -> {
+            throw new IllegalStateException("boom");
+        }, failure -> "fallback:" + failure.getMessage());
+
+        assertEquals("fallback:boom", result);
+        assertEquals(1.0, registry.counter("http.client.guard.calls", "target", "inventory", "outcome", "failure").count());
+    }
+
+    @Test
+    void clientErrorsFallBackWithoutOpeningTheBreaker() {
+        for (int i = 0; i < 8; i++) {
+            assertEquals("fallback", guard.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }, f -> "fallback"));
+        }
+
+        assertEquals(DownstreamGuard.State.CLOSED, guard.state());
+        assertEquals(8.0, registry.counter("http.client.guard.calls", "target", "inventory", "outcome", "client_error").count());
+
+        for (int i = 0; i < 4; i++) {
+            guard.call(() -> {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }, f -> "fallback");
+        }
+        assertEquals(DownstreamGuard.State.OPEN, guard.state());
+    }
+
+    @Test
+    void opensAfterFailureRateThenProbesAfterCooldown() {
+        guard.call(() -> "ok", f -> "fallback");
+        guard.call(() -> "ok", f -> "fallback");
+        fail();
+        fail();
+        assertEquals(DownstreamGuard.State.OPEN, guard.state());
+
+        Exception[] reason = new Exception[1];
+        guard.call(() -> "ok", f -> {
+            reason[0] = f;
+            return "fallback";
+        });
+        assertInstanceOf(DownstreamUnavailableException.class, reason[0]);
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        fail();
+        assertEquals(DownstreamGuard.State.OPEN, guard.state());
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals("ok", guard.call(() -> "ok", f -> "fallback"));
+        assertEquals(DownstreamGuard.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void rejectsCallsBeyondTheBulkhead() throws Exception {
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> guard.call(() -> {
+            inCall.countDown();
+            await(release);
+            return "slow";
+        }, f -> "fallback"));
+        slow.start();
+        assertTrue(inCall.await(5, TimeUnit.SECONDS));
+
+        assertEquals("fallback", guard.call(() -> "fast", f -> "fallback"));
+        assertEquals(1.0, registry.counter("http.client.guard.calls", "target", "inventory", "outcome", "rejected").count());
+
+        release.countDown();
+        slow.join();
+        assertEquals("fast", guard.call(() -> "fast", f -> "fallback"));
+    }
+
+    private void fail() {
+        guard.call(() -> {
+            throw new IllegalStateException("boom");
+        }, f -> "fallback");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
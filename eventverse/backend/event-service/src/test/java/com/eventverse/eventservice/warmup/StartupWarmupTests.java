@@ -0,0 +1,98 @@
+package com.eventverse.eventservice.warmup;
+
+import com.eventverse.eventservice.feed.model.FeedType;
+import com.eventverse.eventservice.feed.service.FeedService;
+import com.eventverse.eventservice.service.BloomFilter;
+import com.eventverse.eventservice.service.EventService;
+import com.eventverse.eventservice.service.TicketInventoryClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StartupWarmupTests {
+
+    private final EventService eventService = mock(EventService.class);
+    private final FeedService feedService = mock(FeedService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final BloomFilter bloomFilter = new BloomFilter();
+
+    @Test
+    void warmsBusiestCitiesAndLoadsEveryIdBeforeGoingReady() throws Exception {
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(jdbcTemplate.queryForList(any(String.class), eq(String.class), anyInt()))
+                .thenReturn(List.of("Pune", "Mumbai"));
+        when(jdbcTemplate.queryForList(any(String.class), eq(Long.class), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(eventService.warmPopularEvents(any(), anyInt(), eq(2))).thenAnswer(invocation ->
+                invocation.<Integer>getArgument(1) == 0 ? List.of(10L, 11L) : List.of(12L));
+        StartupWarmup warmup = warmup(60_000);
+        WarmupHealthIndicator health = new WarmupHealthIndicator(warmup);
+        assertEquals(Status.OUT_OF_SERVICE, health.health().getStatus());
+
+        warmup.run(null);
+
+        assertEquals(StartupWarmup.Phase.COMPLETED, warmup.phase());
+        assertEquals(Status.UP, health.health().getStatus());
+        assertTrue(bloomFilter.isLoaded());
+        assertTrue(bloomFilter.mightContain("3"));
+        assertEquals(3L, warmup.details().get("bloomFilterIds"));
+        assertEquals(2, warmup.details().get("cities"));
+        // popular-per-city of 4 in pages of 2: a short page ends the listing
+        verify(eventService).warmPopularEvents("Pune", 1, 2);
+        verify(eventService, times(0)).warmPopularEvents("Pune", 2, 2);
+        verify(feedService).getFeed(FeedType.TRENDING, null, "Mumbai", 0, 2);
+        verify(feedService).getFeed(eq(FeedType.UPCOMING), isNull(), isNull(), eq(0), eq(2));
+        verify(dataSource, times(3)).getConnection();
+    }
+
+    @Test
+    void goesReadyAtTheDeadlineWithoutWaitingForSlowCities() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(jdbcTemplate.queryForList(any(String.class), eq(String.class), anyInt())).thenReturn(List.of("Pune"));
+        when(jdbcTemplate.queryForList(any(String.class), eq(Long.class), anyLong(), anyInt())).thenReturn(List.of());
+        when(eventService.warmPopularEvents(eq("Pune"), anyInt(), anyInt())).thenAnswer(invocation -> {
+            never.await();
+            return List.of();
+        });
+        StartupWarmup warmup = warmup(200);
+
+        long started = System.nanoTime();
+        warmup.run(null);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 5_000);
+        assertEquals(StartupWarmup.Phase.TIMED_OUT, warmup.phase());
+        assertEquals(Status.UP, new WarmupHealthIndicator(warmup).health().getStatus());
+        assertEquals(0, warmup.details().get("cities"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private StartupWarmup warmup(long timeoutMillis) {
+        return new StartupWarmup(eventService, feedService, bloomFilter, mock(TicketInventoryClient.class),
+                jdbcTemplate, dataSource, mock(ObjectProvider.class), mock(StringRedisTemplate.class),
+                new SimpleMeterRegistry(), true, timeoutMillis, 4, 3, 10, 4, 2, 2);
+    }
+}
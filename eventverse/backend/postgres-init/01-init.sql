@@ -120,6 +120,8 @@ CREATE TABLE IF NOT EXISTS events (
     image_url        VARCHAR(512),
     is_public        BOOLEAN       NOT NULL DEFAULT TRUE,
     price            NUMERIC(12,2) NOT NULL DEFAULT 0,
+    latitude         DOUBLE PRECISION,
+    longitude        DOUBLE PRECISION,
     version          BIGINT,
     popularity_score BIGINT        NOT NULL DEFAULT 0
 );
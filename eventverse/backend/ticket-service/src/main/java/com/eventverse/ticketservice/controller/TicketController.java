@@ -1,13 +1,18 @@
 package com.eventverse.ticketservice.controller;
 import com.eventverse.ticketservice.dto.*;
+import com.eventverse.ticketservice.exception.InvalidRequestException;
 import com.eventverse.ticketservice.service.TicketService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/tickets")
 public class TicketController {
+    static final int MAX_AVAILABILITY_BATCH = 100;
+
     private final TicketService ticketService;
 
     public TicketController(TicketService ticketService) {
@@ -36,13 +41,25 @@ public class TicketController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<java.util.List<TicketResponse>> myTickets(
+    public ResponseEntity<List<TicketResponse>> myTickets(
             @RequestHeader("X-User-Id") Long userId
     ) {
-        java.util.List<TicketResponse> tickets = ticketService.listTicketsForUser(userId);
+        List<TicketResponse> tickets = ticketService.listTicketsForUser(userId);
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Availability of up to {@value #MAX_AVAILABILITY_BATCH} events in one call, e.g.
+     * {@code /tickets/availability?eventIds=1,2,3}. Events without an inventory are omitted.
+     */
+    @GetMapping("/availability")
+    public List<SeatAvailabilityResponse> availability(@RequestParam List<Long> eventIds) {
+        if (eventIds.size() > MAX_AVAILABILITY_BATCH) {
+            throw new InvalidRequestException("At most " + MAX_AVAILABILITY_BATCH + " eventIds per request");
+        }
+        return ticketService.getSeatAvailability(eventIds);
+    }
+
     @GetMapping("/{eventId}/availability")
     public SeatAvailabilityResponse availability(@PathVariable Long eventId) {
         return ticketService.getSeatAvailability(eventId);
@@ -9,6 +9,9 @@ public class SeatInventory {
     private Integer totalSeats;
     private Integer availableSeats;
 
+    /** Version of the event whose capacity was last applied, to drop stale or replayed changes. */
+    private Long appliedEventVersion;
+
     @Version
     private Long version;
     private Instant updatedAt;
@@ -45,6 +48,14 @@ public class SeatInventory {
         this.availableSeats = availableSeats;
     }
 
+    public Long getAppliedEventVersion() {
+        return appliedEventVersion;
+    }
+
+    public void setAppliedEventVersion(Long appliedEventVersion) {
+        this.appliedEventVersion = appliedEventVersion;
+    }
+
     public Long getVersion() {
         return version;
     }
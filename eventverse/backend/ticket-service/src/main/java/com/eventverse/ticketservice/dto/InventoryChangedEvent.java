@@ -0,0 +1,36 @@
+package com.eventverse.ticketservice.dto;
+
+import java.time.Instant;
+
+/**
+ * Published by ticket-service on {@code inventory-events} after it applied a capacity change
+ * ({@code capacityChange} set) or booked or released seats.
+ * {@code appliedEventVersion} is the event version the inventory now reflects.
+ */
+public class InventoryChangedEvent {
+    private Long eventId;
+    private Integer totalSeats;
+    private Integer availableSeats;
+    private Long appliedEventVersion;
+    private boolean capacityChange;
+    private Instant occurredAt;
+
+    // getters and setters
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public Integer getTotalSeats() { return totalSeats; }
+    public void setTotalSeats(Integer totalSeats) { this.totalSeats = totalSeats; }
+
+    public Integer getAvailableSeats() { return availableSeats; }
+    public void setAvailableSeats(Integer availableSeats) { this.availableSeats = availableSeats; }
+
+    public Long getAppliedEventVersion() { return appliedEventVersion; }
+    public void setAppliedEventVersion(Long appliedEventVersion) { this.appliedEventVersion = appliedEventVersion; }
+
+    public boolean isCapacityChange() { return capacityChange; }
+    public void setCapacityChange(boolean capacityChange) { this.capacityChange = capacityChange; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
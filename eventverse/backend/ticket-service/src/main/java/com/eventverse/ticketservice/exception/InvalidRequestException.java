@@ -0,0 +1,11 @@
+package com.eventverse.ticketservice.exception;
+
+/**
+ * Thrown when request parameters are well-formed but outside what the endpoint accepts, such as
+ * an oversized batch; answered with a 400 so callers' circuit breakers do not count it.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.eventverse.ticketservice.exception;
+
+/**
+ * Thrown when an event has no seat inventory (yet): event-service creates it asynchronously,
+ * so a just-created event may not have one for a moment.
+ */
+public class InventoryNotFoundException extends RuntimeException {
+    public InventoryNotFoundException(Long eventId) {
+        super("No inventory configured for event " + eventId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eventverse.ticketservice.messaging;
+
+import com.eventverse.ticketservice.dto.CapacityChangedEvent;
+import com.eventverse.ticketservice.service.TicketService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps seat inventory in step with event capacity. Failures are retried by the container;
+ * the versioned upsert makes redeliveries harmless.
+ */
+@Component
+public class EventCapacityListener {
+
+    private final TicketService ticketService;
+
+    public EventCapacityListener(TicketService ticketService) {
+        this.ticketService = ticketService;
+    }
+
+    @KafkaListener(topics = "event-capacity", groupId = "ticket-service")
+    public void onMessage(CapacityChangedEvent event) {
+        ticketService.applyCapacityChange(event);
+    }
+}
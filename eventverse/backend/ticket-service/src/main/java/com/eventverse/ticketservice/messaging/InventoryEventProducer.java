@@ -0,0 +1,78 @@
+package com.eventverse.ticketservice.messaging;
+
+import com.eventverse.ticketservice.domain.SeatInventory;
+import com.eventverse.ticketservice.dto.InventoryChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * Reports applied capacity changes and seat bookings back to event-service on {@link #TOPIC},
+ * keyed by event id. Sent after the inventory commit, so event-service only sees totals that
+ * were stored.
+ */
+@Service
+public class InventoryEventProducer {
+    private static final Logger logger = LoggerFactory.getLogger(InventoryEventProducer.class);
+    public static final String TOPIC = "inventory-events";
+
+    private final KafkaTemplate<String, InventoryChangedEvent> kafkaTemplate;
+
+    public InventoryEventProducer(KafkaTemplate<String, InventoryChangedEvent> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /** A capacity change from event-service was applied. */
+    public void inventoryChanged(SeatInventory inventory) {
+        publish(inventory, true);
+    }
+
+    /**
+     * Seats were locked, released or set by an admin; event-service only refreshes what it shows
+     * as available.
+     */
+    public void seatsChanged(SeatInventory inventory) {
+        publish(inventory, false);
+    }
+
+    private void publish(SeatInventory inventory, boolean capacityChange) {
+        InventoryChangedEvent event = new InventoryChangedEvent();
+        event.setEventId(inventory.getEventId());
+        event.setTotalSeats(inventory.getTotalSeats());
+        event.setAvailableSeats(inventory.getAvailableSeats());
+        event.setAppliedEventVersion(inventory.getAppliedEventVersion());
+        event.setCapacityChange(capacityChange);
+        event.setOccurredAt(Instant.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(InventoryChangedEvent event) {
+        try {
+            kafkaTemplate.send(TOPIC, String.valueOf(event.getEventId()), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            logger.error("Failed to send inventory change for event [{}]: {}",
+                                    event.getEventId(), ex.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            logger.error("Exception while sending inventory change for event [{}]: {}",
+                    event.getEventId(), e.getMessage(), e);
+        }
+    }
+}
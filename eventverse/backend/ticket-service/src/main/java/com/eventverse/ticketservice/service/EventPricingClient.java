@@ -1,31 +1,43 @@
 package com.eventverse.ticketservice.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.eventverse.ticketservice.service.http.DownstreamGuard;
+import com.eventverse.ticketservice.service.http.DownstreamUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.util.Map;
 
+/**
+ * Event prices from event-service, bulkheaded and circuit broken by {@code eventServiceGuard}.
+ * There is no sensible price to fall back to, so an unavailable event-service fails the
+ * booking fast instead of holding the request thread.
+ */
 @Component
 public class EventPricingClient {
     public static final String EVENT_PRICING_CACHE = "eventPricing";
 
     private final RestTemplate restTemplate;
-    private final String eventServiceBaseUrl;
+    private final DownstreamGuard guard;
 
-    public EventPricingClient(RestTemplate restTemplate,
-                              @Value("${event-service.base-url}") String eventServiceBaseUrl) {
+    public EventPricingClient(@Qualifier("eventServiceRestTemplate") RestTemplate restTemplate,
+                              @Qualifier("eventServiceGuard") DownstreamGuard guard) {
         this.restTemplate = restTemplate;
-        this.eventServiceBaseUrl = eventServiceBaseUrl;
+        this.guard = guard;
     }
 
     @org.springframework.cache.annotation.Cacheable(cacheNames = EVENT_PRICING_CACHE, key = "#eventId")
     public BigDecimal getPriceForEvent(Long eventId) {
-        String url = eventServiceBaseUrl + "/internal/events/" + eventId + "/pricing";
-        Map<?, ?> response = restTemplate.getForObject(url, Map.class);
+        Map<?, ?> response = guard.call(
+                () -> restTemplate.getForObject("/internal/events/{eventId}/pricing", Map.class, eventId),
+                failure -> {
+                    if (failure instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    throw new DownstreamUnavailableException("event-service pricing failed: " + failure.getMessage());
+                });
         Object price = response.get("price");
         return new BigDecimal(price.toString());
     }
 }
-
@@ -4,12 +4,15 @@ import com.eventverse.ticketservice.dto.TicketResponse;
 import com.eventverse.ticketservice.dto.ConfirmTicketRequest;
 import com.eventverse.ticketservice.dto.CancelTicketRequest;
 import com.eventverse.ticketservice.dto.SeatAvailabilityResponse;
+import com.eventverse.ticketservice.dto.CapacityChangedEvent;
 import com.eventverse.ticketservice.domain.SeatInventory;
 import com.eventverse.ticketservice.domain.Ticket;
 import com.eventverse.ticketservice.domain.TicketStatus;
 import com.eventverse.ticketservice.repository.SeatInventoryRepository;
 import com.eventverse.ticketservice.repository.TicketRepository;
+import com.eventverse.ticketservice.exception.InventoryNotFoundException;
 import com.eventverse.ticketservice.messaging.TicketEventProducer;
+import com.eventverse.ticketservice.messaging.InventoryEventProducer;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,28 +32,32 @@ public class TicketService {
     private final SeatInventoryRepository seatInventoryRepository;
     private final EventPricingClient eventPricingClient;
     private final TicketEventProducer ticketEventProducer;
+    private final InventoryEventProducer inventoryEventProducer;
     private static final Duration LOCK_DURATION = Duration.ofMinutes(10);
 
     public TicketService(TicketRepository ticketRepository,
                          SeatInventoryRepository seatInventoryRepository,
                          EventPricingClient eventPricingClient,
-                         TicketEventProducer ticketEventProducer) {
+                         TicketEventProducer ticketEventProducer,
+                         InventoryEventProducer inventoryEventProducer) {
         this.ticketRepository = ticketRepository;
         this.seatInventoryRepository = seatInventoryRepository;
         this.eventPricingClient = eventPricingClient;
         this.ticketEventProducer = ticketEventProducer;
+        this.inventoryEventProducer = inventoryEventProducer;
     }
 
     @Transactional
     public TicketResponse lockTickets(LockTicketRequest request) {
         SeatInventory inventory = seatInventoryRepository.findById(request.eventId())
-                .orElseThrow(() -> new IllegalArgumentException("No inventory configured for event"));
+                .orElseThrow(() -> new InventoryNotFoundException(request.eventId()));
 
         if (inventory.getAvailableSeats() < request.quantity()) {
             throw new IllegalStateException("Not enough seats available");
         }
         inventory.setAvailableSeats(inventory.getAvailableSeats() - request.quantity());
         seatInventoryRepository.save(inventory);
+        inventoryEventProducer.seatsChanged(inventory);
 
             BigDecimal pricePerSeat = eventPricingClient.getPriceForEvent(request.eventId());
         BigDecimal totalPrice = pricePerSeat.multiply(BigDecimal.valueOf(request.quantity()));
@@ -140,6 +148,7 @@ public class TicketService {
                 .orElseThrow(() -> new IllegalArgumentException("No inventory for event"));
         inventory.setAvailableSeats(inventory.getAvailableSeats() + ticket.getQuantity());
         seatInventoryRepository.save(inventory);
+        inventoryEventProducer.seatsChanged(inventory);
     }
 
     @Transactional
@@ -186,7 +195,7 @@ public class TicketService {
     @Transactional
     public SeatAvailabilityResponse getSeatAvailability(Long eventId) {
         SeatInventory inventory = seatInventoryRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("No inventory configured for event " + eventId));
+                .orElseThrow(() -> new InventoryNotFoundException(eventId));
         return new SeatAvailabilityResponse(
                 inventory.getEventId(),
                 inventory.getTotalSeats(),
@@ -194,6 +203,20 @@ public class TicketService {
         );
     }
 
+    /**
+     * Availability of every event in {@code eventIds} that has an inventory, in one query;
+     * events without one are left out.
+     */
+    @Transactional
+    public List<SeatAvailabilityResponse> getSeatAvailability(Collection<Long> eventIds) {
+        return seatInventoryRepository.findAllById(eventIds).stream()
+                .map(inventory -> new SeatAvailabilityResponse(
+                        inventory.getEventId(),
+                        inventory.getTotalSeats(),
+                        inventory.getAvailableSeats()))
+                .toList();
+    }
+
     @Transactional
     public SeatInventory upsertInventory(Long eventId, Integer totalSeats, Integer availableSeats) {
         SeatInventory inventory = seatInventoryRepository.findById(eventId)
@@ -202,7 +225,41 @@ public class TicketService {
                     inv.setEventId(eventId);
                     return inv;
                 });
+        applySeats(inventory, totalSeats, availableSeats);
+        SeatInventory saved = seatInventoryRepository.save(inventory);
+        // event-service re-renders the event with the new counts once this commits
+        inventoryEventProducer.seatsChanged(saved);
+        return saved;
+    }
+
+    /**
+     * Applies a capacity change from event-service. Changes are versioned by the event row
+     * version, so redeliveries and out-of-order messages for an older version are skipped;
+     * returns null in that case. Applied changes are reported back on inventory-events.
+     */
+    @Transactional
+    public SeatInventory applyCapacityChange(CapacityChangedEvent change) {
+        if (change.getEventId() == null || change.getCapacity() == null || change.getEventVersion() == null) {
+            return null;
+        }
+        SeatInventory inventory = seatInventoryRepository.findById(change.getEventId())
+                .orElseGet(() -> {
+                    SeatInventory inv = new SeatInventory();
+                    inv.setEventId(change.getEventId());
+                    return inv;
+                });
+        Long applied = inventory.getAppliedEventVersion();
+        if (applied != null && change.getEventVersion() <= applied) {
+            return null;
+        }
+        applySeats(inventory, change.getCapacity(), null);
+        inventory.setAppliedEventVersion(change.getEventVersion());
+        SeatInventory saved = seatInventoryRepository.save(inventory);
+        inventoryEventProducer.inventoryChanged(saved);
+        return saved;
+    }
 
+    private void applySeats(SeatInventory inventory, Integer totalSeats, Integer availableSeats) {
         Integer previousTotal = inventory.getTotalSeats();
         Integer previousAvailable = inventory.getAvailableSeats();
 
@@ -222,8 +279,6 @@ public class TicketService {
         } else if (inventory.getAvailableSeats() == null && inventory.getTotalSeats() != null) {
             inventory.setAvailableSeats(inventory.getTotalSeats());
         }
-
-        return seatInventoryRepository.save(inventory);
     }
 
     @Transactional
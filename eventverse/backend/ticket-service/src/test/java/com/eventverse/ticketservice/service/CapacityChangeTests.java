@@ -0,0 +1,78 @@
+package com.eventverse.ticketservice.service;
+
+import com.eventverse.ticketservice.domain.SeatInventory;
+import com.eventverse.ticketservice.dto.CapacityChangedEvent;
+import com.eventverse.ticketservice.messaging.InventoryEventProducer;
+import com.eventverse.ticketservice.messaging.TicketEventProducer;
+import com.eventverse.ticketservice.repository.SeatInventoryRepository;
+import com.eventverse.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CapacityChangeTests {
+
+    private final SeatInventoryRepository inventoryRepository = mock(SeatInventoryRepository.class);
+    private final InventoryEventProducer inventoryEventProducer = mock(InventoryEventProducer.class);
+    private final TicketService ticketService = new TicketService(mock(TicketRepository.class), inventoryRepository,
+            mock(EventPricingClient.class), mock(TicketEventProducer.class), inventoryEventProducer);
+
+    private final SeatInventory inventory = new SeatInventory();
+
+    @BeforeEach
+    void setUp() {
+        inventory.setEventId(7L);
+        inventory.setTotalSeats(100);
+        inventory.setAvailableSeats(60);
+        inventory.setAppliedEventVersion(3L);
+        when(inventoryRepository.findById(7L)).thenReturn(Optional.of(inventory));
+        when(inventoryRepository.save(any(SeatInventory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void appliesNewerCapacityKeepingSoldSeats() {
+        SeatInventory saved = ticketService.applyCapacityChange(change(120, 4L));
+
+        assertEquals(120, saved.getTotalSeats());
+        assertEquals(80, saved.getAvailableSeats());
+        assertEquals(4L, saved.getAppliedEventVersion());
+        verify(inventoryEventProducer).inventoryChanged(saved);
+    }
+
+    @Test
+    void skipsRedeliveredAndStaleVersions() {
+        assertNull(ticketService.applyCapacityChange(change(120, 3L)));
+        assertNull(ticketService.applyCapacityChange(change(50, 2L)));
+
+        assertEquals(100, inventory.getTotalSeats());
+        assertEquals(60, inventory.getAvailableSeats());
+        verify(inventoryRepository, never()).save(any());
+        verify(inventoryEventProducer, never()).inventoryChanged(any());
+    }
+
+    @Test
+    void createsInventoryForNewEvents() {
+        when(inventoryRepository.findById(8L)).thenReturn(Optional.empty());
+        CapacityChangedEvent change = new CapacityChangedEvent("m", 8L, 40, 0L, Instant.now());
+
+        SeatInventory saved = ticketService.applyCapacityChange(change);
+
+        assertEquals(40, saved.getTotalSeats());
+        assertEquals(40, saved.getAvailableSeats());
+        assertEquals(0L, saved.getAppliedEventVersion());
+    }
+
+    private static CapacityChangedEvent change(int capacity, long version) {
+        return new CapacityChangedEvent("m", 7L, capacity, version, Instant.now());
+    }
+}